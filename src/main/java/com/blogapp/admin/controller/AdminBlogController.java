@@ -1,8 +1,10 @@
 package com.blogapp.admin.controller;
 
+import com.blogapp.admin.dto.request.AdminBlogBatchRequest;
 import com.blogapp.admin.dto.request.ApproveBlogRequest;
 import com.blogapp.admin.dto.request.RejectBlogRequest;
 import com.blogapp.blog.dto.request.CreateBlogRequest;
+import com.blogapp.blog.dto.response.BlogBatchResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
 import com.blogapp.blog.entity.BlogPost;
 import com.blogapp.blog.mapper.BlogMapper;
@@ -52,6 +54,13 @@ public class AdminBlogController {
         return ResponseEntity.ok(blogService.getBlogById(id));
     }
 
+    @PostMapping("/blogs/batch")
+    @Operation(summary = "Get blogs by IDs", description = "Fetch up to 100 blogs of any status in one call. "
+            + "Results follow the request order; unknown IDs are listed under 'missing'.")
+    public ResponseEntity<BlogBatchResponse> getBlogsByIds(@Valid @RequestBody AdminBlogBatchRequest request) {
+        return ResponseEntity.ok(blogService.getBlogsByIds(request.getIds()));
+    }
+
     @PostMapping("/blogs/{id}/approve")
     @Operation(summary = "Approve a blog", description = "Approve a PENDING blog. Sets status to PUBLISHED and sends notification email to author.")
     public ResponseEntity<BlogDetailResponse> approveBlog(
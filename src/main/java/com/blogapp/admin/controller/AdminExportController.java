@@ -0,0 +1,32 @@
+package com.blogapp.admin.controller;
+
+import com.blogapp.admin.dto.response.ExportStatusResponse;
+import com.blogapp.blog.export.StaticSiteExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Static Export", description = "Export the published site as precompressed static files")
+public class AdminExportController {
+
+    private final StaticSiteExporter staticSiteExporter;
+
+    @PostMapping
+    @Operation(summary = "Start a static export", description = "Renders published blogs, listing pages, archive and tags "
+            + "into the export directory in the background. Only blogs changed since the last export are re-rendered.")
+    public ResponseEntity<ExportStatusResponse> startExport() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(staticSiteExporter.start());
+    }
+
+    @GetMapping
+    @Operation(summary = "Get static export status", description = "State and counters of the running or last export")
+    public ResponseEntity<ExportStatusResponse> getExportStatus() {
+        return ResponseEntity.ok(staticSiteExporter.getStatus());
+    }
+}
@@ -0,0 +1,41 @@
+package com.blogapp.admin.controller;
+
+import com.blogapp.admin.dto.response.RevisionResponse;
+import com.blogapp.admin.dto.response.RevisionSummaryResponse;
+import com.blogapp.blog.revision.RevisionHistory;
+import com.blogapp.common.dto.PageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/blogs/{id}/revisions")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Revisions", description = "Revision history of blog edits")
+public class AdminRevisionController {
+
+    private final RevisionHistory revisionHistory;
+
+    @GetMapping
+    @Operation(summary = "List revisions", description = "Revisions of a blog, newest first. History starts at the first edit — "
+            + "revision 1 is the version before it.")
+    public ResponseEntity<PageResponse<RevisionSummaryResponse>> getRevisions(
+            @Parameter(description = "Blog ID") @PathVariable String id,
+            @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(revisionHistory.list(id, page, size));
+    }
+
+    @GetMapping("/{number}")
+    @Operation(summary = "Get a revision", description = "The full blog content as it was at the given revision")
+    public ResponseEntity<RevisionResponse> getRevision(
+            @Parameter(description = "Blog ID") @PathVariable String id,
+            @Parameter(description = "Revision number") @PathVariable int number) {
+
+        return ResponseEntity.ok(revisionHistory.materialize(id, number));
+    }
+}
@@ -0,0 +1,23 @@
+package com.blogapp.admin.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Fetch several blogs of any status by ID in one request")
+public class AdminBlogBatchRequest {
+
+    @NotEmpty(message = "At least one ID is required")
+    @Schema(description = "Blog IDs — results come back in this order")
+    private List<@NotBlank(message = "IDs must not be blank") String> ids;
+}
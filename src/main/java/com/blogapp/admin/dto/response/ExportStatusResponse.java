@@ -0,0 +1,50 @@
+package com.blogapp.admin.dto.response;
+
+import com.blogapp.blog.enums.ExportState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Progress of the static site export")
+public class ExportStatusResponse {
+
+    @Schema(description = "Export state")
+    private ExportState state;
+
+    @Schema(description = "Output directory")
+    private String directory;
+
+    @Schema(description = "When the current or last run started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the last run finished")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Published blogs seen")
+    private int postsTotal;
+
+    @Schema(description = "Blogs rendered in this run (new or updated since the last export)")
+    private int postsWritten;
+
+    @Schema(description = "Blogs left untouched because they did not change")
+    private int postsUnchanged;
+
+    @Schema(description = "Blogs removed because they are no longer published")
+    private int postsRemoved;
+
+    @Schema(description = "Listing pages written")
+    private int listingPages;
+
+    @Schema(description = "Failure reason, if the last run failed")
+    private String error;
+}
@@ -0,0 +1,38 @@
+package com.blogapp.admin.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A past version of a blog, rebuilt from its revision history")
+public class RevisionResponse {
+
+    private String blogId;
+
+    @Schema(description = "Revision number", example = "3")
+    private int number;
+
+    private String title;
+
+    private String excerpt;
+
+    private String featuredImageUrl;
+
+    private List<String> tags;
+
+    private String contentHtml;
+
+    private String contentJson;
+
+    @Schema(description = "When this version was saved")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.blogapp.admin.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One entry in a blog's revision history")
+public class RevisionSummaryResponse {
+
+    @Schema(description = "Revision number — 1 is the version before the first edit", example = "3")
+    private int number;
+
+    @Schema(description = "Stored as a full copy rather than a diff")
+    private boolean snapshot;
+
+    @Schema(description = "Title at this revision")
+    private String title;
+
+    @Schema(description = "HTML tokens added by this edit (0 for snapshots)")
+    private int tokensAdded;
+
+    @Schema(description = "HTML tokens removed by this edit (0 for snapshots)")
+    private int tokensRemoved;
+
+    @Schema(description = "Length of the HTML content at this revision")
+    private int contentLength;
+
+    @Schema(description = "When this version was saved")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,64 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import com.blogapp.blog.repository.BlogListingFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Total counts of listing queries, keyed by filter (status, year, month, tag and normalized search).
+ * Paging through a listing costs one countDocuments per filter instead of one per page.
+ * Any blog lifecycle event clears it — every count can shift when a blog is created,
+ * changes status or is deleted. Changes made on other instances clear it on the next version sync.
+ */
+@Component
+public class BlogCountCache {
+
+    private final Cache<String, Long> cache;
+
+    public BlogCountCache(MeterRegistry meterRegistry,
+            @Value("${blog.cache.count.max-entries:1000}") long maxEntries,
+            @Value("${blog.cache.count.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blogCount");
+    }
+
+    public long get(BlogListingFilter filter, LongSupplier counter) {
+        return cache.get(key(filter), k -> counter.getAsLong());
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onCollectionVersion(CollectionVersionEvent event) {
+        if (event.isArchiveChanged() || event.isContentChanged()) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static String key(BlogListingFilter filter) {
+        // $text matching is case-insensitive and ignores surrounding whitespace
+        String search = filter.hasSearch()
+                ? filter.getSearch().trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ")
+                : "";
+        return filter.getStatus() + "|" + filter.getYear() + "|" + (filter.getYear() != null ? filter.getMonth() : null)
+                + "|" + (filter.hasTag() ? filter.getTag() : "") + "|" + search;
+    }
+}
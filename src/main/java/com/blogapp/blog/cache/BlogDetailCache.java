@@ -0,0 +1,114 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of published blog details, keyed by slug.
+ * Bounded by approximate payload size (W-TinyLFU eviction) with a TTL as a safety net
+ * for the counters that change without going through the blog lifecycle. Reactions and
+ * comments patch the counters in place ({@link #updateCounts}) instead of evicting the body.
+ * Hit/miss/eviction stats are published under the "cache.*" meters with cache=blogDetail.
+ */
+@Slf4j
+@Component
+public class BlogDetailCache {
+
+    private static final int BASE_ENTRY_BYTES = 512;
+
+    private final Cache<String, BlogDetailResponse> cache;
+
+    public BlogDetailCache(MeterRegistry meterRegistry,
+            @Value("${blog.cache.detail.max-size-mb:64}") long maxSizeMb,
+            @Value("${blog.cache.detail.ttl-minutes:10}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((String slug, BlogDetailResponse blog) -> estimateSize(blog))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blogDetail");
+    }
+
+    /**
+     * Return the cached detail for the slug, loading it on a miss.
+     * Exceptions thrown by the loader (e.g. not found) are propagated and nothing is cached.
+     */
+    public BlogDetailResponse get(String slug, Function<String, BlogDetailResponse> loader) {
+        return cache.get(slug, loader);
+    }
+
+    /**
+     * Return the cached details for the slugs, loading all misses with one call to the loader.
+     * Slugs the loader leaves out of its result are neither cached nor returned.
+     */
+    public Map<String, BlogDetailResponse> getAll(Collection<String> slugs,
+            Function<Set<? extends String>, Map<String, BlogDetailResponse>> loader) {
+        return cache.getAll(slugs, loader);
+    }
+
+    /**
+     * Return the cached detail without loading it, or null on a miss.
+     */
+    public BlogDetailResponse getIfPresent(String slug) {
+        return cache.getIfPresent(slug);
+    }
+
+    /**
+     * Swap the counters of a cached detail for the ones in {@code blog} (the post-image of an engagement
+     * update), keeping the cached content. The entry is replaced with a copy — readers holding the
+     * previous one never see it change. Nothing is loaded on a miss.
+     */
+    public void updateCounts(BlogPost blog) {
+        if (blog.getSlug() == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(blog.getSlug(), (slug, cached) -> cached.toBuilder()
+                .likesCount(blog.getLikesCount())
+                .dislikesCount(blog.getDislikesCount())
+                .commentsCount(blog.getCommentsCount())
+                .build());
+    }
+
+    public void invalidate(String slug) {
+        if (slug != null) {
+            cache.invalidate(slug);
+            log.debug("Blog detail cache invalidated for slug: {}", slug);
+        }
+    }
+
+    /**
+     * Evict on publish, edit and delete — the cache only ever holds published blogs.
+     */
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (event.isPublished() || event.wasPublished()) {
+            invalidate(event.getBlog().getSlug());
+        }
+    }
+
+    private static int estimateSize(BlogDetailResponse blog) {
+        long chars = length(blog.getTitle()) + length(blog.getExcerpt())
+                + length(blog.getContentHtml()) + length(blog.getContentJson());
+        return (int) Math.min(Integer.MAX_VALUE, BASE_ENTRY_BYTES + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
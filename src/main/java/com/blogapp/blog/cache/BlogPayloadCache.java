@@ -0,0 +1,173 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ready-to-send JSON bodies for hot blog pages, keyed by slug and tagged with the blog's ETag.
+ * Each entry holds an identity and a gzip variant in off-heap direct buffers, so a hit
+ * skips both Jackson serialization and compression and is copied straight to the response.
+ * {@link EncodedPayload} is also used for other pre-rendered bodies (feeds, sitemap).
+ */
+@Component
+public class BlogPayloadCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, EncodedPayload> cache;
+
+    public BlogPayloadCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${blog.cache.payload.max-size-mb:32}") long maxSizeMb,
+            @Value("${blog.cache.detail.ttl-minutes:10}") long ttlMinutes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((String slug, EncodedPayload payload) -> payload.sizeInBytes())
+                // Same lifetime as BlogDetailCache — a body is never older than the detail it was encoded from
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "blogPayload");
+    }
+
+    /**
+     * Return the encoded payload for the slug if the cached one matches the ETag,
+     * otherwise serialize and compress the loaded blog and cache it.
+     */
+    public EncodedPayload get(String slug, String etag, Supplier<BlogDetailResponse> loader) {
+        EncodedPayload payload = cache.getIfPresent(slug);
+        if (payload != null && payload.getEtag().equals(etag)) {
+            return payload;
+        }
+
+        BlogDetailResponse blog = loader.get();
+        payload = encode(blog, BlogVersion.of(blog).getEtag());
+        cache.put(slug, payload);
+        return payload;
+    }
+
+    public void invalidate(String slug) {
+        if (slug != null) {
+            cache.invalidate(slug);
+        }
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (event.isPublished() || event.wasPublished()) {
+            cache.invalidate(event.getBlog().getSlug());
+        }
+    }
+
+    private EncodedPayload encode(BlogDetailResponse blog, String etag) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(blog);
+            return new EncodedPayload(blog.getId(), etag, MediaType.APPLICATION_JSON_VALUE,
+                    toDirect(identity), toDirect(gzip(identity)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    @Getter
+    public static class EncodedPayload {
+
+        private final String blogId; // null for bodies that are not a single blog
+        private final String etag;
+        private final String contentType;
+        private final ByteBuffer identity;
+        private final ByteBuffer gzip;
+
+        EncodedPayload(String blogId, String etag, String contentType, ByteBuffer identity, ByteBuffer gzip) {
+            this.blogId = blogId;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+
+        /**
+         * Wrap an already rendered body, compressing it once up front.
+         */
+        public static EncodedPayload of(byte[] body, String contentType, String etag) {
+            return new EncodedPayload(null, etag, contentType, toDirect(body), toDirect(gzip(body)));
+        }
+
+        int sizeInBytes() {
+            return identity.capacity() + gzip.capacity();
+        }
+
+        /**
+         * Write the variant matching the request's Accept-Encoding straight to the servlet output.
+         */
+        public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            boolean useGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            ByteBuffer body = (useGzip ? gzip : identity).duplicate();
+
+            response.setContentType(contentType);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (useGzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.setContentLength(body.remaining());
+
+            WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String part : acceptEncoding.split(",")) {
+                String[] tokens = part.trim().split(";");
+                String coding = tokens[0].trim();
+                if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                    return tokens.length < 2 || !tokens[1].trim().matches("q\\s*=\\s*0(\\.0*)?");
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentEnrichment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validator for a single published blog — enough to answer a conditional GET
+ * without loading or serializing the full blog.
+ */
+@Getter
+@AllArgsConstructor
+public class BlogVersion {
+
+    private final String id;
+    private final LocalDateTime updatedAt;
+    private final long likesCount;
+    private final long dislikesCount;
+    private final long commentsCount;
+
+    /**
+     * Version of a blog whose served representation also carries its enrichment — which is written
+     * after the save without touching updatedAt — so the validator moves with whichever changed last.
+     * Reactions and comments only move the counters, so those are part of the version as well.
+     */
+    public static BlogVersion of(String id, LocalDateTime updatedAt, LocalDateTime enrichedAt,
+            long likesCount, long dislikesCount, long commentsCount) {
+        boolean enrichedLater = enrichedAt != null && (updatedAt == null || enrichedAt.isAfter(updatedAt));
+        return new BlogVersion(id, enrichedLater ? enrichedAt : updatedAt, likesCount, dislikesCount, commentsCount);
+    }
+
+    public static BlogVersion of(BlogDetailResponse blog) {
+        return of(blog.getId(), blog.getUpdatedAt(), blog.getEnrichedAt(),
+                blog.getLikesCount(), blog.getDislikesCount(), blog.getCommentsCount());
+    }
+
+    /**
+     * Version from a {@code findVersionBySlug} projection.
+     */
+    public static BlogVersion of(BlogPost blog) {
+        ContentEnrichment enrichment = blog.getEnrichment();
+        return of(blog.getId(), blog.getUpdatedAt(), enrichment != null ? enrichment.getEnrichedAt() : null,
+                blog.getLikesCount(), blog.getDislikesCount(), blog.getCommentsCount());
+    }
+
+    /**
+     * Strong ETag derived from the blog id, its last modification time and its engagement counters.
+     */
+    public String getEtag() {
+        long millis = updatedAt != null ? toEpochMillis(updatedAt) : 0;
+        return "\"" + id + "-" + Long.toHexString(millis) + "-" + Long.toHexString(likesCount)
+                + "." + Long.toHexString(dislikesCount) + "." + Long.toHexString(commentsCount) + "\"";
+    }
+
+    /**
+     * Last-Modified timestamp in epoch millis, or -1 when unknown.
+     */
+    public long getLastModified() {
+        return updatedAt != null ? toEpochMillis(updatedAt) : -1;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        // Spring Data stores LocalDateTime using the system default zone
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
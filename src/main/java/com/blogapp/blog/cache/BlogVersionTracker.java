@@ -0,0 +1,194 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.entity.CollectionVersion;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collection-level versions used as ETags for the public listing, archive and feed endpoints.
+ * Versions are shared through blog_versions: local changes are counted in memory and pushed
+ * as one $inc per collection on every sync, which also reads back what other instances pushed.
+ * Until a local change has been pushed the tag also carries this instance's id and its count
+ * of unpushed changes, so two nodes never hand out the same tag for different data.
+ */
+@Slf4j
+@Component
+public class BlogVersionTracker {
+
+    private enum Scope {
+        LISTING("listing", "l"),  // Anything shown on a listing card — published set, titles, tags and counters
+        ARCHIVE("archive", "a"),  // Only the set of published blogs (year/month counts)
+        CONTENT("content", "c");  // Published blogs' own fields (feeds, sitemap) — not their counters
+
+        private final String id;
+        private final String prefix;
+
+        Scope(String id, String prefix) {
+            this.id = id;
+            this.prefix = prefix;
+        }
+    }
+
+    private static final Scope[] SCOPES = Scope.values();
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    // Guarded by this — last versions read from blog_versions, and local changes not yet reflected in them
+    private final long[] shared = new long[SCOPES.length];
+    private final long[] pending = new long[SCOPES.length];
+    private final long[] pushing = new long[SCOPES.length];
+    private boolean loaded;
+
+    private final Object syncLock = new Object();
+
+    public BlogVersionTracker(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * A blog was published or removed from the published set.
+     */
+    public void publishedSetChanged() {
+        changed(Scope.ARCHIVE);
+        changed(Scope.LISTING);
+    }
+
+    /**
+     * The archive counts changed without a publish or unpublish here — a drift repair or re-read.
+     */
+    public void archiveChanged() {
+        changed(Scope.ARCHIVE);
+    }
+
+    /**
+     * Something rendered on listing pages changed (content, tags, likes, comments or views).
+     */
+    public void listingChanged() {
+        changed(Scope.LISTING);
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (event.publishedSetChanged()) {
+            publishedSetChanged();
+        } else if (event.isPublished()) {
+            listingChanged();
+        }
+        if (event.isPublished() || event.wasPublished()) {
+            changed(Scope.CONTENT);
+        }
+    }
+
+    public String getListingEtag() {
+        return etag(Scope.LISTING);
+    }
+
+    public String getContentEtag() {
+        return etag(Scope.CONTENT);
+    }
+
+    public String getArchiveEtag() {
+        return etag(Scope.ARCHIVE);
+    }
+
+    /**
+     * Push local changes and pick up other instances' — the first run also loads the shared versions.
+     * Listeners of {@link CollectionVersionEvent} reload before the new versions are used as tags.
+     */
+    @Scheduled(fixedDelayString = "${blog.versions.sync-interval-ms:1000}")
+    public void sync() {
+        // Runs outside the tracker's monitor so tags are never held up by the round trip
+        synchronized (syncLock) {
+            pushAndReload();
+        }
+    }
+
+    private void pushAndReload() {
+        long[] batch = new long[SCOPES.length];
+        synchronized (this) {
+            for (int i = 0; i < SCOPES.length; i++) {
+                batch[i] = pending[i];
+                pushing[i] += pending[i];
+                pending[i] = 0;
+            }
+        }
+
+        long[] current = new long[SCOPES.length];
+        try {
+            for (Scope scope : SCOPES) {
+                if (batch[scope.ordinal()] > 0) {
+                    mongoTemplate.upsert(Query.query(Criteria.where("id").is(scope.id)),
+                            new Update().inc("version", batch[scope.ordinal()]), CollectionVersion.class);
+                }
+            }
+            for (CollectionVersion version : mongoTemplate.findAll(CollectionVersion.class)) {
+                for (Scope scope : SCOPES) {
+                    if (scope.id.equals(version.getId())) {
+                        current[scope.ordinal()] = version.getVersion();
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            // Tags keep moving on local changes alone until the store is back
+            synchronized (this) {
+                for (int i = 0; i < SCOPES.length; i++) {
+                    pending[i] += batch[i];
+                    pushing[i] -= batch[i];
+                }
+            }
+            log.warn("Collection version sync failed: {}", e.getMessage());
+            return;
+        }
+
+        // Anything beyond our own push was changed elsewhere
+        boolean[] remote = new boolean[SCOPES.length];
+        boolean anyRemote = false;
+        synchronized (this) {
+            for (int i = 0; i < SCOPES.length; i++) {
+                remote[i] = !loaded || current[i] - shared[i] > batch[i];
+                anyRemote |= remote[i];
+            }
+        }
+        if (anyRemote) {
+            eventPublisher.publishEvent(new CollectionVersionEvent(remote[Scope.LISTING.ordinal()],
+                    remote[Scope.ARCHIVE.ordinal()], remote[Scope.CONTENT.ordinal()]));
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < SCOPES.length; i++) {
+                shared[i] = Math.max(shared[i], current[i]);
+                pushing[i] -= batch[i];
+            }
+            loaded = true;
+        }
+    }
+
+    private synchronized void changed(Scope scope) {
+        pending[scope.ordinal()]++;
+    }
+
+    private synchronized String etag(Scope scope) {
+        int i = scope.ordinal();
+        long unshared = pending[i] + pushing[i];
+        if (loaded && unshared == 0) {
+            return "\"" + scope.prefix + "-" + shared[i] + "\"";
+        }
+        return "\"" + scope.prefix + "-" + shared[i] + "-" + instanceId + "-" + unshared + "\"";
+    }
+}
@@ -1,17 +1,34 @@
 package com.blogapp.blog.controller;
 
+import com.blogapp.blog.cache.BlogPayloadCache;
+import com.blogapp.blog.cache.BlogVersion;
+import com.blogapp.blog.dto.request.BlogBatchRequest;
 import com.blogapp.blog.dto.response.ArchiveResponse;
+import com.blogapp.blog.dto.response.BlogBatchResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.dto.response.BlogPageResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.dto.response.RelatedBlogResponse;
+import com.blogapp.blog.dto.response.SuggestionResponse;
+import com.blogapp.blog.dto.response.TagCountResponse;
 import com.blogapp.blog.service.BlogService;
+import com.blogapp.common.dto.CursorPageResponse;
 import com.blogapp.common.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -21,36 +38,126 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final BlogPayloadCache blogPayloadCache;
 
     @GetMapping
-    @Operation(summary = "Get published blogs", description = "Fetch published blogs with optional search, year/month filter, and sorting")
+    @Operation(summary = "Get published blogs", description = "Fetch published blogs with optional search, tag and year/month filters, and sorting. "
+            + "Supports If-None-Match — returns 304 while the published listing is unchanged.")
     public ResponseEntity<PageResponse<BlogSummaryResponse>> getPublishedBlogs(
-            @Parameter(description = "Search keyword (searches title + excerpt)") @RequestParam(required = false) String search,
+            @Parameter(description = "Search keyword (title, tags, excerpt and content) — results are ranked by relevance") @RequestParam(required = false) String search,
+            @Parameter(description = "Filter by tag (exact match)", example = "physics") @RequestParam(required = false) String tag,
             @Parameter(description = "Filter by year (e.g., 2026)") @RequestParam(required = false) Integer year,
             @Parameter(description = "Filter by month (1–12)") @RequestParam(required = false) Integer month,
-            @Parameter(description = "Sort order: recent (default), popular, oldest, most_commented") @RequestParam(required = false, defaultValue = "recent") String sort,
+            @Parameter(description = "Sort order: recent (default), popular, oldest, most_commented, trending — ignored when searching") @RequestParam(required = false, defaultValue = "recent") String sort,
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        return ResponseEntity.ok(blogService.getPublishedBlogs(search, year, month, sort, page, size));
+        if (webRequest.checkNotModified(blogService.getListingEtag())) {
+            return null; // 304 — headers already set
+        }
+
+        return ResponseEntity.ok(blogService.getPublishedBlogs(search, tag, year, month, sort, page, size));
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get published blogs (cursor mode)", description = "Keyset-paginated variant of the listing for infinite scroll. "
+            + "Pass an empty cursor for the first page, then the returned nextCursor. No total count is computed.")
+    public ResponseEntity<CursorPageResponse<BlogSummaryResponse>> getPublishedBlogsByCursor(
+            @Parameter(description = "Opaque cursor from the previous page (empty for the first page)") @RequestParam String cursor,
+            @Parameter(description = "Search keyword (title, tags, excerpt and content) — results are ranked by relevance") @RequestParam(required = false) String search,
+            @Parameter(description = "Filter by tag (exact match)", example = "physics") @RequestParam(required = false) String tag,
+            @Parameter(description = "Filter by year (e.g., 2026)") @RequestParam(required = false) Integer year,
+            @Parameter(description = "Filter by month (1–12)") @RequestParam(required = false) Integer month,
+            @Parameter(description = "Sort order: recent (default), popular, oldest, most_commented, trending — must match the cursor") @RequestParam(required = false, defaultValue = "recent") String sort,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        if (webRequest.checkNotModified(blogService.getListingEtag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(blogService.getPublishedBlogsByCursor(search, tag, year, month, sort, cursor, size));
     }
 
     @GetMapping("/archive")
-    @Operation(summary = "Get archive index", description = "Returns year → month breakdown with blog counts for the sidebar archive index")
-    public ResponseEntity<List<ArchiveResponse>> getArchive() {
+    @Operation(summary = "Get archive index", description = "Returns year → month breakdown with blog counts for the sidebar archive index. "
+            + "Supports If-None-Match.")
+    public ResponseEntity<List<ArchiveResponse>> getArchive(WebRequest webRequest) {
+        if (webRequest.checkNotModified(blogService.getArchiveEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(blogService.getArchive());
     }
 
+    @GetMapping("/tags")
+    @Operation(summary = "Get tag counts", description = "Returns every tag used by published blogs with its blog count, most used first. "
+            + "Supports If-None-Match.")
+    public ResponseEntity<List<TagCountResponse>> getTags(WebRequest webRequest) {
+        if (webRequest.checkNotModified(blogService.getTagsEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok(blogService.getTags());
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest titles and tags", description = "Typeahead over published blog titles and tags — "
+            + "matches the start of any title word or tag, most popular first.")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @Parameter(description = "Prefix typed so far", example = "igcse ph") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum suggestions (at most 10)") @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(blogService.suggest(q, limit));
+    }
+
     @GetMapping("/{slug}")
-    @Operation(summary = "Get blog by slug", description = "Fetch full blog detail by its URL-friendly slug")
-    public ResponseEntity<BlogDetailResponse> getBlogBySlug(
-            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug) {
+    @Operation(summary = "Get blog by slug", description = "Fetch full blog detail by its URL-friendly slug. "
+            + "Supports If-None-Match / If-Modified-Since — returns 304 when the client copy is current.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = BlogDetailResponse.class)))
+    public void getBlogBySlug(
+            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug,
+            ServletWebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+
+        // Check validators first so a revalidation never loads or serializes the blog
+        BlogVersion version = blogService.getBlogVersion(slug);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            blogService.incrementViewCount(version.getId());
+            return;
+        }
 
-        BlogDetailResponse blog = blogService.getBlogBySlug(slug);
+        // Pre-serialized, pre-compressed body — written straight to the response
+        BlogPayloadCache.EncodedPayload payload = blogPayloadCache.get(slug, version.getEtag(),
+                () -> blogService.getBlogBySlug(slug));
 
         // Increment view count asynchronously (fire-and-forget)
-        blogService.incrementViewCount(blog.getId());
+        blogService.incrementViewCount(payload.getBlogId());
+
+        payload.writeTo(webRequest.getRequest(), response);
+    }
 
-        return ResponseEntity.ok(blog);
+    @PostMapping("/batch")
+    @Operation(summary = "Get blogs by slugs", description = "Fetch up to 100 published blogs in one call. "
+            + "Results follow the request order; slugs with no published blog are listed under 'missing'.")
+    public ResponseEntity<BlogBatchResponse> getBlogsBySlugs(@Valid @RequestBody BlogBatchRequest request) {
+        return ResponseEntity.ok(blogService.getBlogsBySlugs(request.getSlugs()));
+    }
+
+    @GetMapping("/{slug}/page")
+    @Operation(summary = "Get blog page", description = "Blog detail, the visitor's reaction and the first page of comments in one call. "
+            + "Counts as a page view.")
+    public ResponseEntity<BlogPageResponse> getBlogPage(
+            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug,
+            @Parameter(description = "Visitor key used for reactions (optional)") @RequestParam(required = false) String visitorKey,
+            @Parameter(description = "Comments page size") @RequestParam(defaultValue = "10") int commentsSize) {
+        return ResponseEntity.ok(blogService.getBlogPage(slug, visitorKey, commentsSize));
+    }
+
+    @GetMapping("/{slug}/related")
+    @Operation(summary = "Get related blogs", description = "Published blogs with similar content, most similar first. "
+            + "Precomputed whenever a blog is published or edited; empty until computed.")
+    public ResponseEntity<List<RelatedBlogResponse>> getRelatedBlogs(
+            @Parameter(description = "Blog slug", example = "how-to-prepare-for-igcse-physics") @PathVariable String slug) {
+        return ResponseEntity.ok(blogService.getRelatedBlogs(slug));
     }
 }
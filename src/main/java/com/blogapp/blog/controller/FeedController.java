@@ -0,0 +1,52 @@
+package com.blogapp.blog.controller;
+
+import com.blogapp.blog.enums.FeedFormat;
+import com.blogapp.blog.feed.FeedCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Feeds", description = "RSS, JSON Feed and sitemap for feed readers and crawlers")
+public class FeedController {
+
+    // Readers poll often — let shared caches absorb most of it, ETags handle the rest
+    private static final String CACHE_CONTROL = "public, max-age=300";
+
+    private final FeedCache feedCache;
+
+    @GetMapping("/feed.xml")
+    @Operation(summary = "RSS feed", description = "RSS 2.0 feed of the latest published blogs. Supports If-None-Match.")
+    public void getRssFeed(ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        write(FeedFormat.RSS, webRequest, response);
+    }
+
+    @GetMapping("/feed.json")
+    @Operation(summary = "JSON Feed", description = "JSON Feed 1.1 of the latest published blogs. Supports If-None-Match.")
+    public void getJsonFeed(ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        write(FeedFormat.JSON_FEED, webRequest, response);
+    }
+
+    @GetMapping("/sitemap.xml")
+    @Operation(summary = "Sitemap", description = "sitemap.xml listing every published blog. Supports If-None-Match.")
+    public void getSitemap(ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        write(FeedFormat.SITEMAP, webRequest, response);
+    }
+
+    private void write(FeedFormat format, ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (webRequest.checkNotModified(feedCache.getEtag())) {
+            return;
+        }
+        feedCache.get(format).writeTo(webRequest.getRequest(), response);
+    }
+}
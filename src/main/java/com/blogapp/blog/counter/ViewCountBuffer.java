@@ -0,0 +1,140 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogEngagementEvent;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for blog view counts.
+ * Page views only bump an in-memory counter per blog; the accumulated deltas
+ * are periodically written back as a single unordered bulk of $inc updates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final BlogVersionTracker blogVersionTracker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // A drained counter is closed for good — a view that fetched it before the flush sees CLOSED
+    // and retries on the blog's next counter, so no increment can land where no flush will look
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<String, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Record a single view — lock-free on the hot path, a compare-and-set on the blog's counter.
+     */
+    public void increment(String blogId) {
+        if (blogId == null) {
+            return;
+        }
+        add(blogId, 1);
+    }
+
+    /**
+     * Views recorded for the blog that have not been written to MongoDB yet.
+     */
+    public long pendingFor(String blogId) {
+        AtomicLong counter = pending.get(blogId);
+        long views = counter != null ? counter.get() : 0;
+        return views != CLOSED ? views : 0;
+    }
+
+    /**
+     * Drain all buffered deltas into one bulkWrite of $inc operations.
+     * Each counter is closed as it is drained and then removed, so views recorded meanwhile start
+     * a new counter that the next flush collects.
+     *
+     * @return number of blogs whose view count was updated
+     */
+    public synchronized int flush() {
+        Map<String, Long> drained = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : pending.entrySet()) {
+            long delta = entry.getValue().getAndSet(CLOSED);
+            pending.remove(entry.getKey(), entry.getValue());
+            if (delta > 0) {
+                drained.put(entry.getKey(), delta);
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        List<String> blogIds = new ArrayList<>(drained.keySet()); // bulk operation order
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlogPost.class);
+        blogIds.forEach(blogId -> bulkOps.updateOne(
+                Query.query(Criteria.where("id").is(blogId)),
+                new Update().inc("viewsCount", drained.get(blogId))));
+
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            // Unordered — every other update was applied; re-buffer only the ones that failed
+            for (BulkWriteError error : e.getErrors()) {
+                String blogId = blogIds.get(error.getIndex());
+                add(blogId, drained.remove(blogId));
+            }
+            log.warn("View count flush partially failed, {} of {} blog(s) re-buffered: {}",
+                    e.getErrors().size(), blogIds.size(), e.getMessage());
+        } catch (DataAccessException e) {
+            // Nothing was written — put the deltas back for the next flush
+            drained.forEach(this::add);
+            log.error("View count flush failed, {} blog(s) re-buffered: {}", drained.size(), e.getMessage());
+            return 0;
+        }
+
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        blogVersionTracker.listingChanged();
+        drained.forEach((blogId, delta) -> eventPublisher.publishEvent(
+                new BlogEngagementEvent(blogId, BlogEngagementEvent.Signal.VIEW, delta)));
+        log.debug("Flushed view counts for {} blog(s)", drained.size());
+        return drained.size();
+    }
+
+    private void add(String blogId, long delta) {
+        while (true) {
+            // get first — computeIfAbsent may lock the bin even when the key is present
+            AtomicLong counter = pending.get(blogId);
+            if (counter == null) {
+                counter = pending.computeIfAbsent(blogId, k -> new AtomicLong());
+            }
+            if (counter.getAndUpdate(views -> views != CLOSED ? views + delta : CLOSED) != CLOSED) {
+                return;
+            }
+            // Closed by a flush that hasn't removed it yet
+            pending.remove(blogId, counter);
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        int flushed = flush();
+        log.info("View count buffer drained on shutdown — {} blog(s) flushed", flushed);
+    }
+}
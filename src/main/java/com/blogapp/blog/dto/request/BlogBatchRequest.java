@@ -0,0 +1,23 @@
+package com.blogapp.blog.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Fetch several published blogs by slug in one request")
+public class BlogBatchRequest {
+
+    @NotEmpty(message = "At least one slug is required")
+    @Schema(description = "Blog slugs — results come back in this order", example = "[\"how-to-prepare-for-igcse-physics\"]")
+    private List<@NotBlank(message = "Slugs must not be blank") String> slugs;
+}
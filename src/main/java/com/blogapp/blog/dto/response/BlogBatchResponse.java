@@ -0,0 +1,23 @@
+package com.blogapp.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Blogs found for a batch request, in request order, plus the keys that matched nothing")
+public class BlogBatchResponse {
+
+    @Schema(description = "Blogs found, in the order they were requested (duplicates collapsed)")
+    private List<BlogDetailResponse> blogs;
+
+    @Schema(description = "Requested slugs or IDs with no matching blog")
+    private List<String> missing;
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Full detail view of a blog post")
@@ -35,9 +35,30 @@ public class BlogDetailResponse {
     @Schema(description = "JSON content (if available)")
     private String contentJson;
 
+    @Schema(description = "Excerpt taken from the content — for when excerpt is blank")
+    private String autoExcerpt;
+
+    @Schema(description = "Words in the content (null until the content has been analysed)")
+    private Integer wordCount;
+
+    @Schema(description = "Estimated reading time in minutes (null until the content has been analysed)")
+    private Integer readingTimeMinutes;
+
+    @Schema(description = "Headings (h1-h4) in document order")
+    private List<TocEntryResponse> toc;
+
+    @Schema(description = "Distinct links to other sites")
+    private List<String> outboundLinks;
+
+    @Schema(description = "Distinct image URLs in the content")
+    private List<String> images;
+
     @Schema(description = "Featured image URL")
     private String featuredImageUrl;
 
+    @Schema(description = "srcset of resized featured image variants (null for external images)")
+    private String featuredImageSrcset;
+
     @Schema(description = "Author name")
     private String authorName;
 
@@ -73,4 +94,13 @@ public class BlogDetailResponse {
 
     @Schema(description = "Created date")
     private LocalDateTime createdAt;
+
+    @Schema(description = "Last modified date")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "Other blogs with nearly the same content, closest first (admin listing only)")
+    private List<NearDuplicateResponse> nearDuplicates;
+
+    @Schema(description = "When wordCount, readingTimeMinutes, toc, outboundLinks and images were computed")
+    private LocalDateTime enrichedAt;
 }
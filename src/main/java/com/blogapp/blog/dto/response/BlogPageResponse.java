@@ -0,0 +1,27 @@
+package com.blogapp.blog.dto.response;
+
+import com.blogapp.comment.dto.response.CommentResponse;
+import com.blogapp.common.dto.PageResponse;
+import com.blogapp.reaction.dto.response.ReactionResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Everything needed to render a blog page — detail, visitor reaction and first comments page")
+public class BlogPageResponse {
+
+    @Schema(description = "Blog detail")
+    private BlogDetailResponse blog;
+
+    @Schema(description = "Reaction counts and the visitor's own reaction")
+    private ReactionResponse reaction;
+
+    @Schema(description = "First page of visible comments, newest first")
+    private PageResponse<CommentResponse> comments;
+}
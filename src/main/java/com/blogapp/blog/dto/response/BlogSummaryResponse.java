@@ -26,12 +26,18 @@ public class BlogSummaryResponse {
     @Schema(description = "URL-friendly slug")
     private String slug;
 
-    @Schema(description = "Short excerpt")
+    @Schema(description = "Short excerpt (taken from the content when the author left it blank)")
     private String excerpt;
 
+    @Schema(description = "Estimated reading time in minutes (null until the content has been analysed)")
+    private Integer readingTimeMinutes;
+
     @Schema(description = "Featured image URL")
     private String featuredImageUrl;
 
+    @Schema(description = "srcset of resized featured image variants (null for external images)")
+    private String featuredImageSrcset;
+
     @Schema(description = "Author name")
     private String authorName;
 
@@ -0,0 +1,31 @@
+package com.blogapp.blog.dto.response;
+
+import com.blogapp.blog.enums.BlogStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Another blog whose content is nearly the same")
+public class NearDuplicateResponse {
+
+    @Schema(description = "Blog ID")
+    private String id;
+
+    @Schema(description = "Blog title")
+    private String title;
+
+    @Schema(description = "URL-friendly slug")
+    private String slug;
+
+    @Schema(description = "Blog status")
+    private BlogStatus status;
+
+    @Schema(description = "Differing bits between the two 64-bit SimHash fingerprints (0 = same text)", example = "2")
+    private int distance;
+}
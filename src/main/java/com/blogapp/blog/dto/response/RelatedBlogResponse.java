@@ -0,0 +1,35 @@
+package com.blogapp.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A published blog related to the one being read")
+public class RelatedBlogResponse {
+
+    @Schema(description = "Blog title")
+    private String title;
+
+    @Schema(description = "URL-friendly slug")
+    private String slug;
+
+    @Schema(description = "Short excerpt")
+    private String excerpt;
+
+    @Schema(description = "Featured image URL")
+    private String featuredImageUrl;
+
+    @Schema(description = "Published date")
+    private LocalDateTime publishedAt;
+
+    @Schema(description = "Content similarity (0–1)")
+    private double score;
+}
@@ -0,0 +1,27 @@
+package com.blogapp.blog.dto.response;
+
+import com.blogapp.blog.enums.SuggestionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Typeahead suggestion — a blog title or a tag")
+public class SuggestionResponse {
+
+    @Schema(description = "Text to display", example = "How to Prepare for IGCSE Physics")
+    private String text;
+
+    @Schema(description = "Suggestion type")
+    private SuggestionType type;
+
+    @Schema(description = "Blog slug (title suggestions only)")
+    private String slug;
+}
@@ -0,0 +1,21 @@
+package com.blogapp.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tag facet — a tag and the number of published blogs carrying it")
+public class TagCountResponse {
+
+    @Schema(description = "Tag", example = "physics")
+    private String tag;
+
+    @Schema(description = "Number of published blogs with this tag")
+    private long count;
+}
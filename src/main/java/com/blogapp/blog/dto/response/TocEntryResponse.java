@@ -0,0 +1,24 @@
+package com.blogapp.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One heading in a blog's table of contents")
+public class TocEntryResponse {
+
+    @Schema(description = "Heading level (1-4)", example = "2")
+    private int level;
+
+    @Schema(description = "Heading text")
+    private String text;
+
+    @Schema(description = "id of the heading element in contentHtml (null for content saved before headings had ids)")
+    private String anchor;
+}
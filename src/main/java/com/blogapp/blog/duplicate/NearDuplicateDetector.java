@@ -0,0 +1,217 @@
+package com.blogapp.blog.duplicate;
+
+import com.blogapp.blog.dto.response.NearDuplicateResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentFingerprint;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.repository.ContentFingerprintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Flags blogs whose text is nearly the same as another blog's — re-submissions and copies.
+ *
+ * Each blog's SimHash is stored in content_fingerprints under 28 band keys of 16 bits. Two hashes
+ * within Hamming distance 6 must agree on at least one key, so a lookup is an index hit on the
+ * blog's keys followed by an exact distance check on the few candidates that share one — about
+ * N / 65536 per key, never a comparison against every blog.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateDetector {
+
+    private static final int BACKFILL_BATCH = 500;
+
+    private final ContentFingerprintRepository contentFingerprintRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${blog.duplicates.max-distance:6}")
+    private int maxDistance;
+
+    // Shorter texts are too generic to call duplicates
+    @Value("${blog.duplicates.min-shingles:30}")
+    private int minShingles;
+
+    // Per blog — bounds the work a degenerate (very common) band can cause
+    @Value("${blog.duplicates.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * Near-duplicates of each of the given blogs, closest first. Blogs without a fingerprint (too
+     * short, or not yet backfilled) and blogs with no match are absent from the map.
+     */
+    public Map<String, List<NearDuplicateResponse>> findNearDuplicates(Collection<String> blogIds) {
+        if (blogIds.isEmpty()) {
+            return Map.of();
+        }
+        List<ContentFingerprint> own = contentFingerprintRepository.findHashesByIdIn(blogIds);
+        if (own.isEmpty()) {
+            return Map.of();
+        }
+        // One lookup per blog, so each gets the full candidate budget — a blog with a common band
+        // can't crowd the others on the page out of theirs
+        int threshold = Math.min(maxDistance, SimHash.MAX_DISTANCE);
+        Map<String, Map<String, Integer>> matches = new LinkedHashMap<>();
+        for (ContentFingerprint fingerprint : own) {
+            List<ContentFingerprint> candidates = contentFingerprintRepository.findByBandsIn(fingerprint.getBands(),
+                    Limit.of(maxCandidates + 1));
+            if (candidates.size() > maxCandidates) {
+                log.warn("Near-duplicate candidates for blog {} truncated to {} — its bands are too common",
+                        fingerprint.getId(), maxCandidates);
+                candidates = candidates.subList(0, maxCandidates);
+            }
+            for (ContentFingerprint candidate : candidates) {
+                if (candidate.getId().equals(fingerprint.getId())) {
+                    continue;
+                }
+                int distance = SimHash.distance(fingerprint.getSimhash(), candidate.getSimhash());
+                if (distance <= threshold) {
+                    matches.computeIfAbsent(fingerprint.getId(), id -> new HashMap<>())
+                            .put(candidate.getId(), distance);
+                }
+            }
+        }
+        if (matches.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> matchedIds = new HashSet<>();
+        matches.values().forEach(found -> matchedIds.addAll(found.keySet()));
+        Map<String, BlogPost> blogs = loadTitles(matchedIds);
+
+        Map<String, List<NearDuplicateResponse>> result = new HashMap<>();
+        matches.forEach((blogId, found) -> {
+            List<NearDuplicateResponse> duplicates = found.entrySet().stream()
+                    .filter(match -> blogs.containsKey(match.getKey())) // deleted since
+                    .map(match -> toResponse(blogs.get(match.getKey()), match.getValue()))
+                    .sorted(Comparator.comparingInt(NearDuplicateResponse::getDistance))
+                    .collect(Collectors.toList());
+            if (!duplicates.isEmpty()) {
+                result.put(blogId, duplicates);
+            }
+        });
+        return result;
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        BlogPost blog = event.getBlog();
+        try {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> {
+                    ContentFingerprint fingerprint = fingerprint(blog.getId(), blog.getContentHtml());
+                    if (fingerprint != null) {
+                        contentFingerprintRepository.save(fingerprint);
+                    } else {
+                        contentFingerprintRepository.deleteById(blog.getId());
+                    }
+                }
+                case DELETED -> contentFingerprintRepository.deleteById(blog.getId());
+                default -> { }
+            }
+        } catch (DataAccessException e) {
+            // Missing fingerprints only mean missing flags — never fail the save over it
+            log.error("Failed to update content fingerprint for blog {}: {}", blog.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Fingerprints blogs that have none — those created before detection existed, or whose
+     * fingerprint write failed. Only the missing ones have their content loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Set<String> fingerprinted = contentFingerprintRepository.findAllIds().stream()
+                    .map(ContentFingerprint::getId)
+                    .collect(Collectors.toSet());
+            Query ids = new Query();
+            ids.fields().include("id");
+            List<String> missing;
+            try (Stream<BlogPost> stream = mongoTemplate.stream(ids, BlogPost.class)) {
+                missing = stream.map(BlogPost::getId)
+                        .filter(id -> !fingerprinted.contains(id))
+                        .collect(Collectors.toList());
+            }
+
+            int written = 0;
+            for (int from = 0; from < missing.size(); from += BACKFILL_BATCH) {
+                Query batch = Query.query(Criteria.where("id")
+                        .in(missing.subList(from, Math.min(from + BACKFILL_BATCH, missing.size()))));
+                batch.fields().include("contentHtml");
+                List<ContentFingerprint> fingerprints = new ArrayList<>();
+                for (BlogPost blog : mongoTemplate.find(batch, BlogPost.class)) {
+                    ContentFingerprint fingerprint = fingerprint(blog.getId(), blog.getContentHtml());
+                    if (fingerprint != null) {
+                        fingerprints.add(fingerprint);
+                    }
+                }
+                contentFingerprintRepository.saveAll(fingerprints);
+                written += fingerprints.size();
+            }
+            if (written > 0) {
+                log.info("Content fingerprints backfilled for {} blog(s)", written);
+            }
+        } catch (DataAccessException e) {
+            log.error("Content fingerprint backfill failed: {}", e.getMessage());
+        }
+    }
+
+    // Null when the text is too short to fingerprint
+    private ContentFingerprint fingerprint(String blogId, String contentHtml) {
+        String text = contentHtml != null ? Jsoup.parseBodyFragment(contentHtml).text() : null;
+        SimHash simHash = SimHash.of(text);
+        if (simHash.shingles < minShingles) {
+            return null;
+        }
+        return ContentFingerprint.builder()
+                .id(blogId)
+                .simhash(simHash.hash)
+                .bands(SimHash.bands(simHash.hash))
+                .shingleCount(simHash.shingles)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Map<String, BlogPost> loadTitles(Set<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include("title", "slug", "status");
+        return mongoTemplate.find(query, BlogPost.class).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+    }
+
+    private static NearDuplicateResponse toResponse(BlogPost blog, int distance) {
+        return NearDuplicateResponse.builder()
+                .id(blog.getId())
+                .title(blog.getTitle())
+                .slug(blog.getSlug())
+                .status(blog.getStatus())
+                .distance(distance)
+                .build();
+    }
+}
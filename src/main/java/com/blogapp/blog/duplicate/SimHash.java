@@ -0,0 +1,108 @@
+package com.blogapp.blog.duplicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 64-bit SimHash over word pairs of plain text (Charikar). Texts that share most of their
+ * pairs get hashes a few bits apart, so near-duplicates are found by Hamming distance.
+ *
+ * Lookups use Manku's permuted-table scheme: the hash is cut into eight 8-bit blocks and every
+ * pair of blocks is a 16-bit band key. Hashes at most 6 bits apart leave at least two blocks
+ * untouched, so they share at least one band key exactly.
+ */
+final class SimHash {
+
+    private static final int BLOCKS = 8;
+    private static final int BLOCK_BITS = 64 / BLOCKS;
+
+    // Largest distance the band keys are guaranteed to find
+    static final int MAX_DISTANCE = BLOCKS - 2;
+
+    final long hash;
+
+    // Word pairs that went into the hash — 0 when the text has fewer than two words
+    final int shingles;
+
+    private SimHash(long hash, int shingles) {
+        this.hash = hash;
+        this.shingles = shingles;
+    }
+
+    static SimHash of(String text) {
+        int[] weights = new int[64];
+        long previous = 0;
+        int words = 0;
+        int shingles = 0;
+
+        int length = text != null ? text.length() : 0;
+        int i = 0;
+        while (i < length) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            // FNV-1a over the lower-cased word, as it is read — no substring or toLowerCase copies
+            long word = 0xcbf29ce484222325L;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                word ^= Character.toLowerCase(text.charAt(i));
+                word *= 0x100000001b3L;
+                i++;
+            }
+            words++;
+            if (words >= 2) {
+                // Pairs rather than single words — otherwise common words make every text look alike
+                add(weights, mix(previous * 0x9E3779B97F4A7C15L + word));
+                shingles++;
+            }
+            previous = word;
+        }
+
+        long hash = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                hash |= 1L << bit;
+            }
+        }
+        return new SimHash(hash, shingles);
+    }
+
+    /**
+     * The 28 band keys for the multikey index: pair number (0-27) in the high bits, the two
+     * blocks' 16 bits below — equal bits at different positions never collide.
+     */
+    static List<Integer> bands(long hash) {
+        List<Integer> bands = new ArrayList<>(BLOCKS * (BLOCKS - 1) / 2);
+        int pair = 0;
+        for (int first = 0; first < BLOCKS; first++) {
+            for (int second = first + 1; second < BLOCKS; second++) {
+                bands.add((pair++ << 16) | (block(hash, first) << BLOCK_BITS) | block(hash, second));
+            }
+        }
+        return bands;
+    }
+
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static int block(long hash, int index) {
+        return (int) (hash >>> (index * BLOCK_BITS)) & 0xFF;
+    }
+
+    private static void add(int[] weights, long feature) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += (feature >>> bit & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // murmur3 fmix64 — spreads the pair's bits so every output bit is a fair coin
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,189 @@
+package com.blogapp.blog.enrich;
+
+import com.blogapp.blog.entity.ContentEnrichment;
+import com.blogapp.blog.entity.ContentEnrichment.TocEntry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Derives a ContentEnrichment from sanitized blog HTML with one parse and one walk of the tree.
+ * Stateless apart from its settings, so one instance serves every thread.
+ */
+final class ContentAnalyzer {
+
+    private static final String ELLIPSIS = "…";
+
+    // Counted as words but kept out of the auto excerpt — it should read as prose
+    private static final Set<String> NOT_EXCERPTED = Set.of("h1", "h2", "h3", "h4", "h5", "h6", "pre", "figcaption", "table");
+
+    private final int wordsPerMinute;
+    private final int secondsPerImage;
+    private final int excerptLength;
+    private final int maxUrls;
+    private final String ownHost;
+
+    ContentAnalyzer(int wordsPerMinute, int secondsPerImage, int excerptLength, int maxUrls, String ownHost) {
+        this.wordsPerMinute = Math.max(1, wordsPerMinute);
+        this.secondsPerImage = secondsPerImage;
+        this.excerptLength = excerptLength;
+        this.maxUrls = maxUrls;
+        this.ownHost = ownHost != null ? ownHost.toLowerCase(Locale.ROOT) : null;
+    }
+
+    ContentEnrichment analyze(String html) {
+        Walk walk = new Walk();
+        if (html != null && !html.isBlank()) {
+            NodeTraversor.traverse(walk, Jsoup.parseBodyFragment(html).body());
+        }
+
+        // Roughly: words at reading speed, plus a pause per image; never shown as 0 min
+        long seconds = (long) walk.words * 60 / wordsPerMinute + (long) walk.images.size() * secondsPerImage;
+        int minutes = (int) Math.max(1, (seconds + 59) / 60);
+
+        return ContentEnrichment.builder()
+                .wordCount(walk.words)
+                .readingTimeMinutes(minutes)
+                .toc(walk.toc)
+                .autoExcerpt(excerpt(walk.text))
+                .outboundLinks(new ArrayList<>(walk.links))
+                .images(new ArrayList<>(walk.images))
+                .build();
+    }
+
+    // Cut at the last word boundary that fits — the text was collected one char past the limit to tell
+    private String excerpt(StringBuilder text) {
+        int length = text.length();
+        while (length > 0 && text.charAt(length - 1) == ' ') {
+            length--;
+        }
+        if (length == 0) {
+            return null;
+        }
+        if (length <= excerptLength) {
+            return text.substring(0, length);
+        }
+        int cut = text.lastIndexOf(" ", excerptLength);
+        if (cut <= 0) {
+            cut = excerptLength; // a single very long word
+        }
+        int end = cut;
+        while (end > 0 && !Character.isLetterOrDigit(text.charAt(end - 1))) {
+            end--; // "…, and" reads worse than "… and"
+        }
+        return text.substring(0, end) + ELLIPSIS;
+    }
+
+    private boolean isOutbound(String href) {
+        int scheme = href.indexOf("://");
+        if (scheme < 0) {
+            return false;
+        }
+        String protocol = href.substring(0, scheme).toLowerCase(Locale.ROOT);
+        if (!protocol.equals("http") && !protocol.equals("https")) {
+            return false;
+        }
+        int hostEnd = scheme + 3;
+        while (hostEnd < href.length() && "/?#:".indexOf(href.charAt(hostEnd)) < 0) {
+            hostEnd++;
+        }
+        String host = href.substring(scheme + 3, hostEnd).toLowerCase(Locale.ROOT);
+        return !host.isEmpty() && !host.equals(ownHost);
+    }
+
+    /**
+     * Collects everything in a single pass. Words are counted across adjacent inline nodes
+     * ("re<b>use</b>" is one word) and split at block boundaries and line breaks.
+     */
+    private final class Walk implements NodeVisitor {
+
+        private int words;
+        private boolean inWord;
+        private int notExcerpted;
+        private final StringBuilder text = new StringBuilder();
+        private final List<TocEntry> toc = new ArrayList<>();
+        private final Set<String> links = new LinkedHashSet<>();
+        private final Set<String> images = new LinkedHashSet<>();
+
+        @Override
+        public void head(Node node, int depth) {
+            if (node instanceof TextNode textNode) {
+                append(textNode.getWholeText());
+            } else if (node instanceof Element element && depth > 0) {
+                if (element.isBlock() || element.normalName().equals("br")) {
+                    breakWord();
+                }
+                if (NOT_EXCERPTED.contains(element.normalName())) {
+                    notExcerpted++;
+                }
+                switch (element.normalName()) {
+                    case "h1", "h2", "h3", "h4" -> {
+                        String anchor = element.id();
+                        toc.add(new TocEntry(element.normalName().charAt(1) - '0', element.text(),
+                                anchor.isEmpty() ? null : anchor));
+                    }
+                    case "a" -> {
+                        String href = element.attr("href").trim();
+                        if (links.size() < maxUrls && isOutbound(href)) {
+                            links.add(href);
+                        }
+                    }
+                    case "img" -> {
+                        String src = element.attr("src").trim();
+                        if (!src.isEmpty() && images.size() < maxUrls) {
+                            images.add(src);
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+            if (node instanceof Element element && depth > 0) {
+                if (element.isBlock()) {
+                    breakWord();
+                }
+                if (NOT_EXCERPTED.contains(element.normalName())) {
+                    notExcerpted--;
+                }
+            }
+        }
+
+        private void append(String chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                char c = chars.charAt(i);
+                boolean wordChar = Character.isLetterOrDigit(c) || (inWord && (c == '\'' || c == '’' || c == '-'));
+                if (wordChar && !inWord) {
+                    words++;
+                }
+                inWord = wordChar;
+                if (notExcerpted == 0 && text.length() <= excerptLength) {
+                    boolean space = Character.isWhitespace(c);
+                    if (!space) {
+                        text.append(c);
+                    } else if (text.length() > 0 && text.charAt(text.length() - 1) != ' ') {
+                        text.append(' ');
+                    }
+                }
+            }
+        }
+
+        private void breakWord() {
+            inWord = false;
+            if (text.length() > 0 && text.length() <= excerptLength && text.charAt(text.length() - 1) != ' ') {
+                text.append(' ');
+            }
+        }
+    }
+}
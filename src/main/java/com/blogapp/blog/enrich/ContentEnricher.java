@@ -0,0 +1,132 @@
+package com.blogapp.blog.enrich;
+
+import com.blogapp.blog.cache.BlogDetailCache;
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentEnrichment;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.repository.BlogPostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Computes each blog's ContentEnrichment (word count, reading time, table of contents, auto excerpt,
+ * outbound links and images) after it is saved, on the bounded enrichmentExecutor, and stores it on
+ * the blog. Saves return without waiting; anything the executor turns away, or a write that loses to a
+ * newer save, is picked up by {@link #sweep}.
+ */
+@Slf4j
+@Component
+public class ContentEnricher {
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogDetailCache blogDetailCache;
+    private final BlogVersionTracker blogVersionTracker;
+    private final ThreadPoolTaskExecutor enrichmentExecutor;
+    private final ContentAnalyzer analyzer;
+
+    public ContentEnricher(BlogPostRepository blogPostRepository, BlogDetailCache blogDetailCache,
+            BlogVersionTracker blogVersionTracker, ThreadPoolTaskExecutor enrichmentExecutor,
+            @Value("${blog.enrichment.words-per-minute:230}") int wordsPerMinute,
+            @Value("${blog.enrichment.seconds-per-image:12}") int secondsPerImage,
+            @Value("${blog.enrichment.excerpt-length:160}") int excerptLength,
+            @Value("${blog.enrichment.max-urls:100}") int maxUrls,
+            @Value("${blog.frontend.url:http://localhost:5173}") String frontendUrl) {
+        this.blogPostRepository = blogPostRepository;
+        this.blogDetailCache = blogDetailCache;
+        this.blogVersionTracker = blogVersionTracker;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.analyzer = new ContentAnalyzer(wordsPerMinute, secondsPerImage, excerptLength, maxUrls,
+                URI.create(frontendUrl).getHost());
+    }
+
+    /*
+     * Every save bumps updatedAt, so every save gets a run — status changes included, or the
+     * conditional write of a run already in flight would fail against the new updatedAt.
+     */
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (event.getType() == BlogLifecycleEvent.Type.DELETED) {
+            return;
+        }
+        // Read on the publishing thread — the event's blog goes on to be used by the caller
+        Source source = Source.of(event.getBlog());
+        try {
+            enrichmentExecutor.execute(() -> enrich(source));
+        } catch (TaskRejectedException e) {
+            log.warn("Enrichment queue full — blog {} left for the next sweep", source.getId());
+        }
+    }
+
+    /**
+     * Enrich up to {@code limit} blogs that have no enrichment or a stale one, on the calling thread.
+     * Returns how many were written.
+     */
+    public int sweep(int limit) {
+        List<BlogPost> backlog = blogPostRepository.findUnenriched(limit);
+        int written = 0;
+        for (BlogPost blog : backlog) {
+            if (enrich(Source.of(blog))) {
+                written++;
+            }
+        }
+        if (!backlog.isEmpty()) {
+            log.info("Enrichment sweep: {} of {} blog(s) updated", written, backlog.size());
+        }
+        return written;
+    }
+
+    private boolean enrich(Source source) {
+        try {
+            ContentEnrichment enrichment = analyzer.analyze(source.getContentHtml());
+            enrichment.setSourceUpdatedAt(source.getUpdatedAt());
+            enrichment.setEnrichedAt(LocalDateTime.now());
+
+            if (!blogPostRepository.updateEnrichment(source.getId(), source.getUpdatedAt(), enrichment)) {
+                log.debug("Blog {} changed before its enrichment was stored — skipped", source.getId());
+                return false;
+            }
+            blogDetailCache.invalidate(source.getSlug());
+            if (source.isPublished()) {
+                blogVersionTracker.listingChanged(); // reading time and auto excerpt are on the cards
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Failed to store enrichment for blog {}: {}", source.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Source {
+
+        private final String id;
+        private final String slug;
+        private final boolean published;
+        private final String contentHtml;
+        private final LocalDateTime updatedAt;
+
+        static Source of(BlogPost blog) {
+            // MongoDB keeps milliseconds — match the stored value, not the in-memory one
+            LocalDateTime updatedAt = blog.getUpdatedAt() != null
+                    ? blog.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS)
+                    : null;
+            return new Source(blog.getId(), blog.getSlug(), blog.getStatus() == BlogStatus.PUBLISHED,
+                    blog.getContentHtml(), updatedAt);
+        }
+    }
+}
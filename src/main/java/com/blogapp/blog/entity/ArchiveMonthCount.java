@@ -0,0 +1,33 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Materialised archive index — number of published blogs per year/month.
+ * Maintained incrementally by ArchiveIndex.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_archive")
+public class ArchiveMonthCount {
+
+    @Id
+    private String id; // "yyyy-MM"
+
+    private int year;
+
+    private int month;
+
+    private long count;
+
+    public static String key(int year, int month) {
+        return String.format("%04d-%02d", year, month);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -16,10 +17,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "blog_posts")
+// Multikey — serves the tag-filtered listing in publishedAt order
+@CompoundIndex(name = "status_tags_publishedAt", def = "{'status': 1, 'tags': 1, 'publishedAt': -1}")
 public class BlogPost {
 
     @Id
@@ -40,6 +43,9 @@ public class BlogPost {
 
     private String featuredImageUrl;
 
+    // Set at save time when featuredImageUrl is an uploaded image
+    private String featuredImageSrcset;
+
     private String authorName;
 
     @Indexed
@@ -69,6 +75,9 @@ public class BlogPost {
 
     private List<String> tags;
 
+    // Filled in asynchronously after each save — null until the first enrichment
+    private ContentEnrichment enrichment;
+
     @Builder.Default
     private long viewsCount = 0;
 
@@ -0,0 +1,88 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One saved version of a blog. Snapshots hold the full content; every other revision holds
+ * token-level hunks against the revision before it, so a version is rebuilt from the nearest
+ * snapshot at or below it plus the diffs in between. Written by RevisionHistory on each edit —
+ * the blog_posts document itself always holds the current version.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_revisions")
+@CompoundIndex(name = "blogId_number", def = "{'blogId': 1, 'number': -1}", unique = true)
+public class BlogRevision {
+
+    @Id
+    private String id;
+
+    private String blogId;
+
+    // 1-based, per blog
+    private int number;
+
+    private boolean snapshot;
+
+    // Small fields are stored whole on every revision
+    private String title;
+
+    private String excerpt;
+
+    private String featuredImageUrl;
+
+    private List<String> tags;
+
+    // Snapshots only
+    private String contentHtml;
+
+    private String contentJson;
+
+    // Diff revisions only — applied to the previous revision's content
+    private List<Hunk> htmlHunks;
+
+    private List<Hunk> jsonHunks;
+
+    private int tokensAdded;
+
+    private int tokensRemoved;
+
+    // contentHtml length of this version
+    private int contentLength;
+
+    // SHA-256 of this version's contentHtml and contentJson — the next diff is only taken against a blog that matches it
+    private String contentHash;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Replace {@code deleted} tokens starting at token {@code start} of the previous version with {@code inserted}.
+     * {@code deletedHash} is the String hash of the deleted tokens, checked before they are replaced
+     * (null on hunks that delete nothing, and on hunks written before it existed).
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hunk {
+
+        private int start;
+
+        private int deleted;
+
+        private String inserted;
+
+        private Integer deletedHash;
+    }
+}
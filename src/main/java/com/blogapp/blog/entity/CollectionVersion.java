@@ -0,0 +1,25 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Shared change counter for one public collection (listing, archive, content), incremented by
+ * every instance. Maintained by BlogVersionTracker and used as the collection ETag.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_versions")
+public class CollectionVersion {
+
+    @Id
+    private String id; // "listing", "archive" or "content"
+
+    private long version;
+}
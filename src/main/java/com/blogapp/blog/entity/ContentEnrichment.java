@@ -0,0 +1,52 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Facts derived from a blog's contentHtml, embedded in its blog_posts document. Computed off the
+ * request path by ContentEnricher after each save, so reads serve them without parsing the HTML.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentEnrichment {
+
+    private int wordCount;
+
+    private int readingTimeMinutes;
+
+    private List<TocEntry> toc;
+
+    // First sentence(s) of the text — shown on listing cards when the author left excerpt blank
+    private String autoExcerpt;
+
+    // Absolute http(s) links to other sites, in order of first appearance
+    private List<String> outboundLinks;
+
+    private List<String> images;
+
+    // updatedAt of the version this was computed from — older than the blog's updatedAt means stale
+    private LocalDateTime sourceUpdatedAt;
+
+    private LocalDateTime enrichedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TocEntry {
+
+        private int level;
+
+        private String text;
+
+        // The heading's id — null for content saved before headings were given ids
+        private String anchor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 64-bit SimHash of a blog's text, one per blog (id = blog id). Kept out of blog_posts so
+ * candidate lookups only touch these small documents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "content_fingerprints")
+public class ContentFingerprint {
+
+    @Id
+    private String id;
+
+    private long simhash;
+
+    /*
+     * 28 keys, one per pair of the hash's eight 8-bit blocks (pair << 16 | bits).
+     * Multikey — fingerprints within Hamming distance 6 share at least one entry.
+     */
+    @Indexed
+    private List<Integer> bands;
+
+    private int shingleCount;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-limited claim on a background job that only one instance may run. The owner renews it
+ * well before expiresAt; once it lapses, any instance can take it over.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "job_leases")
+public class JobLease {
+
+    @Id
+    private String id; // job name
+
+    private String owner;
+
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,57 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Precomputed related posts of one published blog, keyed by its slug so the
+ * related endpoint is a single lookup. Maintained by RelatedPostsEngine.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_related")
+public class RelatedBlogs {
+
+    @Id
+    private String slug;
+
+    @Indexed
+    private String blogId;
+
+    // Best match first — denormalised so serving needs no second query
+    private List<Neighbour> neighbours;
+
+    @Indexed
+    private LocalDateTime computedAt;
+
+    @Data
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Neighbour {
+
+        private String blogId;
+
+        private String slug;
+
+        private String title;
+
+        private String excerpt;
+
+        private String featuredImageUrl;
+
+        private LocalDateTime publishedAt;
+
+        private double score;
+    }
+}
@@ -0,0 +1,29 @@
+package com.blogapp.blog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Shared trending score of a published blog — the decayed score as of scoredAt.
+ * Every instance's TrendingIndex periodically adds the engagement it saw and reloads the total.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "blog_trending")
+public class TrendingScore {
+
+    @Id
+    private String blogId;
+
+    private double score;
+
+    private LocalDateTime scoredAt;
+}
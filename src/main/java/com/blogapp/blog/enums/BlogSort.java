@@ -0,0 +1,61 @@
+package com.blogapp.blog.enums;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort options for the public listing. Every option is tie-broken on _id so
+ * that the order is total — required for stable pages and keyset cursors.
+ * Ranked options are ordered in memory; their field is only the MongoDB fallback order.
+ */
+public enum BlogSort {
+    RECENT("publishedAt", Sort.Direction.DESC),
+    POPULAR("likesCount", Sort.Direction.DESC),
+    OLDEST("publishedAt", Sort.Direction.ASC),
+    MOST_COMMENTED("commentsCount", Sort.Direction.DESC),
+    TRENDING("publishedAt", Sort.Direction.DESC, true);
+
+    private final String field;
+    private final Sort.Direction direction;
+    private final boolean ranked;
+
+    BlogSort(String field, Sort.Direction direction) {
+        this(field, direction, false);
+    }
+
+    BlogSort(String field, Sort.Direction direction, boolean ranked) {
+        this.field = field;
+        this.direction = direction;
+        this.ranked = ranked;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isRanked() {
+        return ranked;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Resolve the "sort" request parameter — unknown or blank values fall back to RECENT.
+     */
+    public static BlogSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return RECENT;
+        }
+        for (BlogSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        return RECENT;
+    }
+}
@@ -0,0 +1,8 @@
+package com.blogapp.blog.enums;
+
+public enum ExportState {
+    IDLE,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
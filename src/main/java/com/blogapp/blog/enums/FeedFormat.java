@@ -0,0 +1,20 @@
+package com.blogapp.blog.enums;
+
+/**
+ * Machine-readable renderings of the published blogs.
+ */
+public enum FeedFormat {
+    RSS("application/rss+xml;charset=UTF-8"),
+    JSON_FEED("application/feed+json;charset=UTF-8"),
+    SITEMAP("application/xml;charset=UTF-8");
+
+    private final String contentType;
+
+    FeedFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,6 @@
+package com.blogapp.blog.enums;
+
+public enum SuggestionType {
+    TITLE,
+    TAG
+}
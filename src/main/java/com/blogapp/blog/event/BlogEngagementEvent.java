@@ -0,0 +1,35 @@
+package com.blogapp.blog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when readers engage with a blog — views (batched per flush), likes and comments.
+ * A negative count withdraws earlier engagement (like removed, comment hidden or deleted).
+ */
+@Getter
+@AllArgsConstructor
+public class BlogEngagementEvent {
+
+    public enum Signal {
+        VIEW(1),
+        LIKE(5),
+        COMMENT(8);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    private final String blogId;
+
+    private final Signal signal;
+
+    private final long count;
+}
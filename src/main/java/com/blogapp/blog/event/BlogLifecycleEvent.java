@@ -0,0 +1,45 @@
+package com.blogapp.blog.event;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by BlogService after a blog has been saved or deleted.
+ * Caches and in-memory indexes listen to this instead of being called directly.
+ */
+@Getter
+@AllArgsConstructor
+public class BlogLifecycleEvent {
+
+    public enum Type {
+        CREATED,
+        PUBLISHED,
+        REJECTED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+
+    // State after the change — for DELETED, the last state before removal
+    private final BlogPost blog;
+
+    private final BlogStatus previousStatus;
+
+    public boolean wasPublished() {
+        return previousStatus == BlogStatus.PUBLISHED;
+    }
+
+    public boolean isPublished() {
+        return type != Type.DELETED && blog.getStatus() == BlogStatus.PUBLISHED;
+    }
+
+    /**
+     * True when the blog entered or left the published set.
+     */
+    public boolean publishedSetChanged() {
+        return wasPublished() != isPublished();
+    }
+}
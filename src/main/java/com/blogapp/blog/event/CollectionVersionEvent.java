@@ -0,0 +1,20 @@
+package com.blogapp.blog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by BlogVersionTracker when another instance changed a public collection — in-memory
+ * state that is only updated by local lifecycle events (archive counts, listing totals) reloads
+ * before the new collection ETag is handed out.
+ */
+@Getter
+@AllArgsConstructor
+public class CollectionVersionEvent {
+
+    private final boolean listingChanged;
+
+    private final boolean archiveChanged;
+
+    private final boolean contentChanged;
+}
@@ -0,0 +1,346 @@
+package com.blogapp.blog.export;
+
+import com.blogapp.admin.dto.response.ExportStatusResponse;
+import com.blogapp.blog.cache.BlogVersion;
+import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogSort;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.enums.ExportState;
+import com.blogapp.blog.mapper.BlogMapper;
+import com.blogapp.blog.repository.BlogCursor;
+import com.blogapp.blog.repository.BlogListingFilter;
+import com.blogapp.blog.repository.BlogPostRepository;
+import com.blogapp.blog.service.BlogService;
+import com.blogapp.common.dto.PageResponse;
+import com.blogapp.common.exception.BadRequestException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renders the published site into a directory of static files, each with a .gz sibling
+ * (for nginx gzip_static or object storage with Content-Encoding):
+ * <pre>
+ *   blogs/{slug}.json, blogs/{slug}/index.html   — one per published blog
+ *   listing/page-{n}.json                          — recent-first listing pages
+ *   archive.json, tags.json
+ *   manifest.json                                  — slug → updatedAt of what was exported
+ * </pre>
+ * Incremental: a blog is only rendered again when its updatedAt differs from the manifest,
+ * and files of blogs that are no longer published are deleted. Blogs render in parallel.
+ */
+@Slf4j
+@Component
+public class StaticSiteExporter {
+
+    private static final String MANIFEST = "manifest.json";
+    private static final int LOAD_BATCH_SIZE = 100;
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogService blogService;
+    private final BlogMapper blogMapper;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Path exportDir;
+    private final int listingPageSize;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService renderPool;
+
+    private volatile ExportStatusResponse status;
+
+    public StaticSiteExporter(BlogPostRepository blogPostRepository, BlogService blogService, BlogMapper blogMapper,
+            MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+            @Value("${blog.export.dir:./data/export}") String exportDir,
+            @Value("${blog.export.listing-page-size:10}") int listingPageSize,
+            @Value("${blog.export.parallelism:4}") int parallelism) {
+        this.blogPostRepository = blogPostRepository;
+        this.blogService = blogService;
+        this.blogMapper = blogMapper;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.exportDir = Paths.get(exportDir).toAbsolutePath().normalize();
+        this.listingPageSize = listingPageSize;
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "static-export"));
+        this.renderPool = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "static-export-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.status = ExportStatusResponse.builder()
+                .state(ExportState.IDLE)
+                .directory(this.exportDir.toString())
+                .build();
+    }
+
+    public ExportStatusResponse getStatus() {
+        return status;
+    }
+
+    /**
+     * Start an export in the background. Only one export runs at a time.
+     */
+    public synchronized ExportStatusResponse start() {
+        if (status.getState() == ExportState.RUNNING) {
+            throw new BadRequestException("An export is already running");
+        }
+        status = ExportStatusResponse.builder()
+                .state(ExportState.RUNNING)
+                .directory(exportDir.toString())
+                .startedAt(LocalDateTime.now())
+                .build();
+        ExportStatusResponse started = status;
+        jobExecutor.execute(() -> run(started));
+        return started;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        renderPool.shutdownNow();
+    }
+
+    private void run(ExportStatusResponse started) {
+        try {
+            ExportStatusResponse finished = export(started);
+            status = finished;
+            log.info("Static export finished — {} written, {} unchanged, {} removed, {} listing page(s)",
+                    finished.getPostsWritten(), finished.getPostsUnchanged(), finished.getPostsRemoved(),
+                    finished.getListingPages());
+        } catch (Exception e) {
+            log.error("Static export failed: {}", e.getMessage(), e);
+            status = started.toBuilder()
+                    .state(ExportState.FAILED)
+                    .finishedAt(LocalDateTime.now())
+                    .error(e.getMessage())
+                    .build();
+        }
+    }
+
+    private ExportStatusResponse export(ExportStatusResponse started) throws IOException {
+        Files.createDirectories(exportDir.resolve("blogs"));
+        Files.createDirectories(exportDir.resolve("listing"));
+
+        Map<String, Long> previous = readManifest();
+
+        // Versions only — full blogs are loaded just for the ones that changed
+        Map<String, Long> current = new HashMap<>();
+        List<String> changedIds = new ArrayList<>();
+        Query versions = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        // The exported page carries the enrichment, which is written without touching updatedAt
+        versions.fields().include("slug", "updatedAt", "enrichment.enrichedAt");
+        try (Stream<BlogPost> stream = mongoTemplate.stream(versions, BlogPost.class)) {
+            stream.forEach(blog -> {
+                long version = BlogVersion.of(blog).getLastModified();
+                current.put(blog.getSlug(), version);
+                if (!Objects.equals(previous.get(blog.getSlug()), version)) {
+                    changedIds.add(blog.getId());
+                }
+            });
+        }
+
+        AtomicInteger written = new AtomicInteger();
+        for (int from = 0; from < changedIds.size(); from += LOAD_BATCH_SIZE) {
+            List<String> batch = changedIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, changedIds.size()));
+            List<BlogPost> blogs = blogPostRepository.findAllById(batch);
+            CompletableFuture.allOf(blogs.stream()
+                    .filter(blog -> blog.getStatus() == BlogStatus.PUBLISHED)
+                    .map(blog -> CompletableFuture.runAsync(() -> {
+                        writePost(blog);
+                        written.incrementAndGet();
+                    }, renderPool))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        int removed = 0;
+        for (String slug : previous.keySet()) {
+            if (!current.containsKey(slug)) {
+                deletePost(slug);
+                removed++;
+            }
+        }
+
+        int pages = writeListing(current.size());
+        writeFile(exportDir.resolve("archive.json"), objectMapper.writeValueAsBytes(blogService.getArchive()));
+        writeFile(exportDir.resolve("tags.json"), objectMapper.writeValueAsBytes(blogService.getTags()));
+
+        // Last — a failed run leaves the old manifest, so the next run retries what it missed
+        writeFile(exportDir.resolve(MANIFEST), objectMapper.writeValueAsBytes(current));
+
+        return started.toBuilder()
+                .state(ExportState.COMPLETED)
+                .finishedAt(LocalDateTime.now())
+                .postsTotal(current.size())
+                .postsWritten(written.get())
+                .postsUnchanged(current.size() - changedIds.size())
+                .postsRemoved(removed)
+                .listingPages(pages)
+                .build();
+    }
+
+    private void writePost(BlogPost blog) {
+        BlogDetailResponse detail = blogMapper.toDetailResponse(blog);
+        try {
+            writeFile(postJson(blog.getSlug()), objectMapper.writeValueAsBytes(detail));
+            Files.createDirectories(postDir(blog.getSlug()));
+            writeFile(postDir(blog.getSlug()).resolve("index.html"), renderHtml(detail).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deletePost(String slug) throws IOException {
+        Path json = postJson(slug);
+        Path html = postDir(slug).resolve("index.html");
+        for (Path file : List.of(json, gzipSibling(json), html, gzipSibling(html))) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(postDir(slug));
+    }
+
+    /**
+     * Recent-first listing pages, walked with a keyset cursor. Pages past the new end are removed.
+     */
+    private int writeListing(long total) throws IOException {
+        BlogListingFilter filter = BlogListingFilter.builder().status(BlogStatus.PUBLISHED).build();
+        int totalPages = (int) ((total + listingPageSize - 1) / listingPageSize);
+
+        BlogCursor after = null;
+        int page = 0;
+        do {
+            List<BlogPost> blogs = blogPostRepository.findSummariesAfter(filter, BlogSort.RECENT, after, listingPageSize);
+            List<BlogSummaryResponse> content = blogs.stream()
+                    .map(blogMapper::toSummaryResponse)
+                    .collect(Collectors.toList());
+            PageResponse<BlogSummaryResponse> response = PageResponse.<BlogSummaryResponse>builder()
+                    .content(content)
+                    .page(page)
+                    .size(listingPageSize)
+                    .totalElements(total)
+                    .totalPages(totalPages)
+                    .first(page == 0)
+                    .last(page >= totalPages - 1)
+                    .build();
+            writeFile(listingPage(page), objectMapper.writeValueAsBytes(response));
+            page++;
+            after = blogs.isEmpty() ? null : BlogCursor.after(blogs.get(blogs.size() - 1), BlogSort.RECENT);
+        } while (page < totalPages && after != null);
+
+        for (int stale = page; Files.exists(listingPage(stale)); stale++) {
+            Files.deleteIfExists(listingPage(stale));
+            Files.deleteIfExists(gzipSibling(listingPage(stale)));
+        }
+        return page;
+    }
+
+    private String renderHtml(BlogDetailResponse blog) {
+        String title = HtmlUtils.htmlEscape(nullToEmpty(blog.getTitle()));
+        String excerpt = HtmlUtils.htmlEscape(nullToEmpty(blog.getExcerpt()));
+        // contentHtml is sanitized when the blog is saved
+        return """
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1">
+                <title>%s</title>
+                <meta name="description" content="%s">
+                </head>
+                <body>
+                <article>
+                <h1>%s</h1>
+                %s
+                </article>
+                </body>
+                </html>
+                """.formatted(title, excerpt, title, nullToEmpty(blog.getContentHtml()));
+    }
+
+    private Map<String, Long> readManifest() {
+        Path manifest = exportDir.resolve(MANIFEST);
+        if (!Files.exists(manifest)) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(manifest.toFile(), new TypeReference<Map<String, Long>>() {
+            });
+        } catch (IOException e) {
+            log.warn("Unreadable export manifest, exporting everything: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Write the file and its .gz sibling, each via a temp file and an atomic move,
+     * so a reader never sees a half-written file.
+     */
+    private static void writeFile(Path target, byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        replace(target, body);
+        replace(gzipSibling(target), compressed.toByteArray());
+    }
+
+    private static void replace(Path target, byte[] body) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".export-", ".tmp");
+        try {
+            Files.write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path postJson(String slug) {
+        return exportDir.resolve("blogs").resolve(slug + ".json");
+    }
+
+    private Path postDir(String slug) {
+        return exportDir.resolve("blogs").resolve(slug);
+    }
+
+    private Path listingPage(int page) {
+        return exportDir.resolve("listing").resolve("page-" + page + ".json");
+    }
+
+    private static Path gzipSibling(Path file) {
+        return file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,69 @@
+package com.blogapp.blog.feed;
+
+import com.blogapp.blog.cache.BlogPayloadCache.EncodedPayload;
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.enums.FeedFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rendered feed and sitemap bodies, tagged with the published-content version they were built from.
+ * Polls between changes are served from memory; the first request after a publish, edit or
+ * unpublish — on any instance, once the shared version has synced — renders the document again
+ * (once — concurrent requests wait for it).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCache {
+
+    private final FeedRenderer feedRenderer;
+    private final BlogVersionTracker blogVersionTracker;
+
+    private final Map<FeedFormat, EncodedPayload> rendered = new ConcurrentHashMap<>();
+    private final Map<FeedFormat, Object> renderLocks = new EnumMap<>(FeedFormat.class);
+
+    {
+        for (FeedFormat format : FeedFormat.values()) {
+            renderLocks.put(format, new Object());
+        }
+    }
+
+    public String getEtag() {
+        return blogVersionTracker.getContentEtag();
+    }
+
+    public EncodedPayload get(FeedFormat format) {
+        String etag = getEtag();
+        EncodedPayload payload = rendered.get(format);
+        if (payload != null && payload.getEtag().equals(etag)) {
+            return payload;
+        }
+
+        synchronized (renderLocks.get(format)) {
+            payload = rendered.get(format);
+            if (payload != null && payload.getEtag().equals(etag)) {
+                return payload;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+            try {
+                feedRenderer.render(format, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            payload = EncodedPayload.of(out.toByteArray(), format.getContentType(), etag);
+            rendered.put(format, payload);
+            log.debug("Rendered {} — {} bytes", format, out.size());
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.blogapp.blog.feed;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.enums.FeedFormat;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams RSS 2.0, JSON Feed 1.1 and sitemap.xml documents straight from a MongoDB cursor —
+ * blogs are written one at a time with StAX / Jackson's JsonGenerator and never collected into a list.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedRenderer {
+
+    private static final String JSON_FEED_VERSION = "https://jsonfeed.org/version/1.1";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    // Protocol limit for a single sitemap file
+    private static final int SITEMAP_MAX_URLS = 50_000;
+
+    private static final String[] FEED_FIELDS = {
+            "title", "slug", "excerpt", "tags", "authorName", "featuredImageUrl", "publishedAt", "updatedAt"
+    };
+
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newInstance();
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${blog.frontend.url:http://localhost:5173}")
+    private String frontendUrl;
+
+    @Value("${blog.feed.title:Blog}")
+    private String feedTitle;
+
+    @Value("${blog.feed.description:Latest posts}")
+    private String feedDescription;
+
+    @Value("${blog.feed.max-items:50}")
+    private int maxItems;
+
+    public void render(FeedFormat format, OutputStream out) throws IOException {
+        try {
+            switch (format) {
+                case RSS -> writeRss(out);
+                case JSON_FEED -> writeJsonFeed(out);
+                case SITEMAP -> writeSitemap(out);
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to render " + format, e);
+        }
+    }
+
+    private void writeRss(OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeStartElement("channel");
+        element(xml, "title", feedTitle);
+        element(xml, "link", frontendUrl);
+        element(xml, "description", feedDescription);
+        element(xml, "lastBuildDate", ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME));
+
+        try (Stream<BlogPost> blogs = stream(FEED_FIELDS, maxItems)) {
+            for (Iterator<BlogPost> it = blogs.iterator(); it.hasNext(); ) {
+                BlogPost blog = it.next();
+                String link = blogUrl(blog);
+                xml.writeStartElement("item");
+                element(xml, "title", blog.getTitle());
+                element(xml, "link", link);
+                xml.writeStartElement("guid");
+                xml.writeAttribute("isPermaLink", "true");
+                xml.writeCharacters(link);
+                xml.writeEndElement();
+                element(xml, "description", blog.getExcerpt());
+                if (blog.getPublishedAt() != null) {
+                    element(xml, "pubDate", zoned(blog.getPublishedAt()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+                }
+                if (blog.getTags() != null) {
+                    for (String tag : blog.getTags()) {
+                        element(xml, "category", tag);
+                    }
+                }
+                xml.writeEndElement();
+            }
+        }
+
+        xml.writeEndElement();
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.flush();
+    }
+
+    private void writeJsonFeed(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("version", JSON_FEED_VERSION);
+            json.writeStringField("title", feedTitle);
+            json.writeStringField("home_page_url", frontendUrl);
+            json.writeStringField("description", feedDescription);
+            json.writeArrayFieldStart("items");
+
+            try (Stream<BlogPost> blogs = stream(FEED_FIELDS, maxItems)) {
+                for (Iterator<BlogPost> it = blogs.iterator(); it.hasNext(); ) {
+                    BlogPost blog = it.next();
+                    json.writeStartObject();
+                    json.writeStringField("id", blog.getId());
+                    json.writeStringField("url", blogUrl(blog));
+                    json.writeStringField("title", blog.getTitle());
+                    if (blog.getExcerpt() != null) {
+                        json.writeStringField("summary", blog.getExcerpt());
+                        json.writeStringField("content_text", blog.getExcerpt());
+                    }
+                    if (blog.getFeaturedImageUrl() != null) {
+                        json.writeStringField("image", blog.getFeaturedImageUrl());
+                    }
+                    if (blog.getPublishedAt() != null) {
+                        json.writeStringField("date_published", rfc3339(blog.getPublishedAt()));
+                    }
+                    if (blog.getUpdatedAt() != null) {
+                        json.writeStringField("date_modified", rfc3339(blog.getUpdatedAt()));
+                    }
+                    if (blog.getAuthorName() != null) {
+                        json.writeArrayFieldStart("authors");
+                        json.writeStartObject();
+                        json.writeStringField("name", blog.getAuthorName());
+                        json.writeEndObject();
+                        json.writeEndArray();
+                    }
+                    if (blog.getTags() != null && !blog.getTags().isEmpty()) {
+                        json.writeArrayFieldStart("tags");
+                        for (String tag : blog.getTags()) {
+                            json.writeString(tag);
+                        }
+                        json.writeEndArray();
+                    }
+                    json.writeEndObject();
+                }
+            }
+
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private void writeSitemap(OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("urlset");
+        xml.writeDefaultNamespace(SITEMAP_NS);
+
+        xml.writeStartElement("url");
+        element(xml, "loc", frontendUrl);
+        xml.writeEndElement();
+
+        try (Stream<BlogPost> blogs = stream(new String[] { "slug", "publishedAt", "updatedAt" }, SITEMAP_MAX_URLS - 1)) {
+            for (Iterator<BlogPost> it = blogs.iterator(); it.hasNext(); ) {
+                BlogPost blog = it.next();
+                xml.writeStartElement("url");
+                element(xml, "loc", blogUrl(blog));
+                LocalDateTime modified = blog.getUpdatedAt() != null ? blog.getUpdatedAt() : blog.getPublishedAt();
+                if (modified != null) {
+                    element(xml, "lastmod", rfc3339(modified));
+                }
+                xml.writeEndElement();
+            }
+        }
+
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.flush();
+    }
+
+    private Stream<BlogPost> stream(String[] fields, int limit) {
+        Query query = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED))
+                .with(Sort.by(Sort.Direction.DESC, "publishedAt"))
+                .limit(limit);
+        query.fields().include(fields);
+        return mongoTemplate.stream(query, BlogPost.class);
+    }
+
+    private String blogUrl(BlogPost blog) {
+        return frontendUrl + "/blogs/" + blog.getSlug();
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        if (text != null) {
+            xml.writeCharacters(xmlSafe(text));
+        }
+        xml.writeEndElement();
+    }
+
+    // StAX escapes markup but not characters XML 1.0 forbids outright
+    private static String xmlSafe(String text) {
+        StringBuilder out = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean allowed = c == '\t' || c == '\n' || c == '\r' || (c >= 0x20 && c != 0xFFFE && c != 0xFFFF);
+            if (!allowed && out == null) {
+                out = new StringBuilder(text.length()).append(text, 0, i);
+            } else if (allowed && out != null) {
+                out.append(c);
+            }
+        }
+        return out != null ? out.toString() : text;
+    }
+
+    private static ZonedDateTime zoned(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault());
+    }
+
+    private static String rfc3339(LocalDateTime time) {
+        return zoned(time).withNano(0).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+}
@@ -0,0 +1,201 @@
+package com.blogapp.blog.index;
+
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.dto.response.ArchiveResponse;
+import com.blogapp.blog.entity.ArchiveMonthCount;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import com.blogapp.blog.repository.ArchiveMonthCountRepository;
+import com.blogapp.blog.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Year/month counts of published blogs, persisted in blog_archive and held in memory.
+ * Adjusted on every publish/unpublish, so the archive endpoint never aggregates blog_posts.
+ * Counts changed by other instances are re-read when the shared archive version moves.
+ * A full rebuild only happens on startup (empty index) or when drift is detected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveIndex {
+
+    private final ArchiveMonthCountRepository archiveMonthCountRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final MongoTemplate mongoTemplate;
+    private final BlogVersionTracker blogVersionTracker;
+
+    // year*100 + month → count, newest first
+    private final TreeMap<Integer, Long> counts = new TreeMap<>(Comparator.reverseOrder());
+
+    private volatile List<ArchiveResponse> snapshot = List.of();
+
+    /**
+     * Served as-is — rebuilt only when a count changes.
+     */
+    public List<ArchiveResponse> getArchive() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ArchiveMonthCount> stored = archiveMonthCountRepository.findAll();
+        if (stored.isEmpty()) {
+            rebuild();
+            return;
+        }
+        replaceAll(stored);
+        verify();
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!event.publishedSetChanged()) {
+            return;
+        }
+        BlogPost blog = event.getBlog();
+        if (blog.getYear() == null || blog.getMonth() == null) {
+            return;
+        }
+        adjust(blog.getYear(), blog.getMonth(), event.isPublished() ? 1 : -1);
+    }
+
+    @EventListener
+    public void onCollectionVersion(CollectionVersionEvent event) {
+        if (event.isArchiveChanged()) {
+            replaceAll(archiveMonthCountRepository.findAll());
+        }
+    }
+
+    /**
+     * Drift check — re-read the persisted counts (other instances may have changed them)
+     * and rebuild from blog_posts if they no longer add up to the number of published blogs.
+     */
+    public void verify() {
+        if (replaceAll(archiveMonthCountRepository.findAll())) {
+            blogVersionTracker.archiveChanged();
+        }
+
+        long indexed;
+        synchronized (counts) {
+            indexed = counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+        long published = blogPostRepository.countByStatus(BlogStatus.PUBLISHED);
+        if (indexed != published) {
+            log.warn("Archive index drift detected (indexed {}, published {}) — rebuilding", indexed, published);
+            rebuild();
+        }
+    }
+
+    /**
+     * Recompute all counts from blog_posts and replace the persisted index.
+     */
+    public void rebuild() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status").is(BlogStatus.PUBLISHED.name())),
+                Aggregation.group("year", "month").count().as("count"));
+
+        AggregationResults<org.bson.Document> results = mongoTemplate.aggregate(
+                aggregation, "blog_posts", org.bson.Document.class);
+
+        List<ArchiveMonthCount> rebuilt = new ArrayList<>();
+        for (org.bson.Document doc : results.getMappedResults()) {
+            org.bson.Document idDoc = doc.get("_id", org.bson.Document.class);
+            if (idDoc == null)
+                continue;
+
+            Integer year = idDoc.getInteger("year");
+            Integer month = idDoc.getInteger("month");
+            if (year != null && month != null) {
+                rebuilt.add(ArchiveMonthCount.builder()
+                        .id(ArchiveMonthCount.key(year, month))
+                        .year(year)
+                        .month(month)
+                        .count(doc.getInteger("count", 0))
+                        .build());
+            }
+        }
+
+        archiveMonthCountRepository.deleteAll();
+        archiveMonthCountRepository.saveAll(rebuilt);
+        if (replaceAll(rebuilt)) {
+            blogVersionTracker.archiveChanged();
+        }
+        log.info("Archive index rebuilt — {} month(s)", rebuilt.size());
+    }
+
+    private void adjust(int year, int month, long delta) {
+        String id = ArchiveMonthCount.key(year, month);
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(id)),
+                new Update().inc("count", delta).set("year", year).set("month", month),
+                ArchiveMonthCount.class);
+        mongoTemplate.remove(Query.query(Criteria.where("id").is(id).and("count").lte(0)), ArchiveMonthCount.class);
+
+        synchronized (counts) {
+            long updated = counts.getOrDefault(year * 100 + month, 0L) + delta;
+            if (updated > 0) {
+                counts.put(year * 100 + month, updated);
+            } else {
+                counts.remove(year * 100 + month);
+            }
+            snapshot = buildSnapshot();
+        }
+    }
+
+    /**
+     * Replace all counts, returning whether any of them changed. Callers bump the archive
+     * version on a change — except when the shared version already moved (startup, remote change).
+     */
+    private boolean replaceAll(List<ArchiveMonthCount> entries) {
+        Map<Integer, Long> replacement = new TreeMap<>(Comparator.reverseOrder());
+        for (ArchiveMonthCount entry : entries) {
+            if (entry.getCount() > 0) {
+                replacement.put(entry.getYear() * 100 + entry.getMonth(), entry.getCount());
+            }
+        }
+        synchronized (counts) {
+            if (counts.equals(replacement)) {
+                return false;
+            }
+            counts.clear();
+            counts.putAll(replacement);
+            snapshot = buildSnapshot();
+            return true;
+        }
+    }
+
+    private List<ArchiveResponse> buildSnapshot() {
+        Map<Integer, List<ArchiveResponse.MonthCount>> yearMap = new TreeMap<>(Comparator.reverseOrder());
+        counts.forEach((key, count) -> yearMap.computeIfAbsent(key / 100, k -> new ArrayList<>())
+                .add(ArchiveResponse.MonthCount.builder()
+                        .month(key % 100)
+                        .count(count)
+                        .build()));
+
+        List<ArchiveResponse> archive = new ArrayList<>();
+        yearMap.forEach((year, months) -> archive.add(ArchiveResponse.builder()
+                .year(year)
+                .months(List.copyOf(months))
+                .build()));
+        return List.copyOf(archive);
+    }
+}
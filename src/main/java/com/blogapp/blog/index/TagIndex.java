@@ -0,0 +1,274 @@
+package com.blogapp.blog.index;
+
+import com.blogapp.blog.dto.response.TagCountResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tag counts of published blogs, held in memory.
+ * Tracks each published blog's tags so a publish, unpublish or tag edit only
+ * adjusts the tags involved. Changes made by other instances are read back when the shared
+ * content version moves; a full rebuild only happens on startup or when drift is detected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagIndex {
+
+    private static final Comparator<TagCountResponse> MOST_USED_FIRST =
+            Comparator.comparingLong(TagCountResponse::getCount).reversed()
+                    .thenComparing(TagCountResponse::getTag);
+
+    // Re-read blogs saved slightly before the last sync too — other instances' clocks and in-flight saves
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+
+    // blogId → tags of that published blog, and tag → published blogs carrying it
+    private final Map<String, Set<String>> tagsByBlog = new HashMap<>();
+    private final Map<String, Set<String>> blogsByTag = new HashMap<>();
+
+    private volatile List<TagCountResponse> snapshot = List.of();
+    private volatile String etag = etagOf(List.of());
+    private volatile boolean ready;
+
+    // Rebuilds and syncs run one at a time; syncedAt is when blog_posts was last read
+    private final Object syncLock = new Object();
+    private LocalDateTime syncedAt;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of the published blogs carrying the tag (exact match, like the listing filter).
+     */
+    public Set<String> blogsWithTag(String tag) {
+        synchronized (blogsByTag) {
+            return Set.copyOf(blogsByTag.getOrDefault(tag, Set.of()));
+        }
+    }
+
+    /**
+     * Served as-is — rebuilt only when a count changes.
+     */
+    public List<TagCountResponse> getTags() {
+        return snapshot;
+    }
+
+    /**
+     * Strong ETag of the served counts — derived from their content, so every instance holding the
+     * same counts hands out the same tag.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (syncLock) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Another instance published, edited or unpublished a blog — apply its tag changes.
+     */
+    @EventListener
+    public void onCollectionVersion(CollectionVersionEvent event) {
+        if (ready && event.isContentChanged()) {
+            synchronized (syncLock) {
+                sync();
+            }
+        }
+    }
+
+    /**
+     * Drift check — pick up changes made elsewhere, then rebuild if the number of tagged
+     * published blogs no longer matches the index.
+     */
+    public void verify() {
+        synchronized (syncLock) {
+            if (syncedAt == null) {
+                rebuildAll();
+                return;
+            }
+            sync();
+            long indexed;
+            synchronized (blogsByTag) {
+                indexed = tagsByBlog.size();
+            }
+            long tagged = mongoTemplate.count(taggedQuery(), BlogPost.class);
+            if (indexed != tagged) {
+                log.warn("Tag index drift detected (indexed {}, tagged {}) — rebuilding", indexed, tagged);
+                rebuildAll();
+            }
+        }
+    }
+
+    private void rebuildAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<String, Set<String>> rebuilt = new HashMap<>();
+        Query query = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        query.fields().include("tags");
+        try (Stream<BlogPost> stream = mongoTemplate.stream(query, BlogPost.class)) {
+            stream.forEach(blog -> {
+                Set<String> tags = tagsOf(blog);
+                if (!tags.isEmpty()) {
+                    rebuilt.put(blog.getId(), tags);
+                }
+            });
+        }
+
+        int tags;
+        synchronized (blogsByTag) {
+            tagsByBlog.clear();
+            blogsByTag.clear();
+            rebuilt.forEach((blogId, blogTags) -> {
+                tagsByBlog.put(blogId, blogTags);
+                blogTags.forEach(tag -> blogsByTag.computeIfAbsent(tag, k -> new HashSet<>()).add(blogId));
+            });
+            publishSnapshot();
+            tags = blogsByTag.size();
+        }
+        syncedAt = startedAt;
+        ready = true;
+        log.info("Tag index rebuilt — {} tag(s)", tags);
+    }
+
+    /**
+     * Apply blogs saved since the last read of blog_posts, and drop blogs that are no longer published.
+     */
+    private void sync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Query saved = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED)
+                .and("updatedAt").gte(syncedAt.minus(SYNC_OVERLAP)));
+        saved.fields().include("tags");
+        List<BlogPost> changed = mongoTemplate.find(saved, BlogPost.class);
+
+        Query tagged = taggedQuery();
+        tagged.fields().include("id");
+        Set<String> taggedIds = mongoTemplate.find(tagged, BlogPost.class).stream()
+                .map(BlogPost::getId)
+                .collect(Collectors.toSet());
+
+        synchronized (blogsByTag) {
+            boolean modified = false;
+            for (BlogPost blog : changed) {
+                modified |= setTags(blog.getId(), tagsOf(blog));
+            }
+            for (String blogId : new ArrayList<>(tagsByBlog.keySet())) {
+                if (!taggedIds.contains(blogId)) {
+                    modified |= setTags(blogId, Set.of());
+                }
+            }
+            if (modified) {
+                publishSnapshot();
+            }
+        }
+        syncedAt = startedAt;
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!event.isPublished() && !event.wasPublished()) {
+            return;
+        }
+        BlogPost blog = event.getBlog();
+        Set<String> current = event.isPublished() ? tagsOf(blog) : Set.of();
+
+        synchronized (blogsByTag) {
+            if (setTags(blog.getId(), current)) {
+                publishSnapshot();
+            }
+        }
+    }
+
+    // Caller holds blogsByTag; returns whether anything changed
+    private boolean setTags(String blogId, Set<String> current) {
+        Set<String> previous = tagsByBlog.getOrDefault(blogId, Set.of());
+        if (previous.equals(current)) {
+            return false;
+        }
+        previous.stream().filter(tag -> !current.contains(tag)).forEach(tag -> untag(tag, blogId));
+        current.stream().filter(tag -> !previous.contains(tag))
+                .forEach(tag -> blogsByTag.computeIfAbsent(tag, k -> new HashSet<>()).add(blogId));
+
+        if (current.isEmpty()) {
+            tagsByBlog.remove(blogId);
+        } else {
+            tagsByBlog.put(blogId, current);
+        }
+        return true;
+    }
+
+    private void untag(String tag, String blogId) {
+        Set<String> blogs = blogsByTag.get(tag);
+        if (blogs != null && blogs.remove(blogId) && blogs.isEmpty()) {
+            blogsByTag.remove(tag);
+        }
+    }
+
+    private static Set<String> tagsOf(BlogPost blog) {
+        if (blog.getTags() == null) {
+            return Set.of();
+        }
+        return blog.getTags().stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Query taggedQuery() {
+        return Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED).and("tags.0").exists(true));
+    }
+
+    private void publishSnapshot() {
+        List<TagCountResponse> built = buildSnapshot();
+        snapshot = built;
+        etag = etagOf(built);
+    }
+
+    // FNV-1a over the tags and counts in served order
+    private static String etagOf(List<TagCountResponse> tags) {
+        long hash = 0xcbf29ce484222325L;
+        for (TagCountResponse tag : tags) {
+            for (char c : (tag.getTag() + '\0' + tag.getCount() + '\n').toCharArray()) {
+                hash = (hash ^ c) * 0x100000001b3L;
+            }
+        }
+        return "\"t-" + Long.toHexString(hash) + "\"";
+    }
+
+    private List<TagCountResponse> buildSnapshot() {
+        return blogsByTag.entrySet().stream()
+                .map(entry -> TagCountResponse.builder()
+                        .tag(entry.getKey())
+                        .count(entry.getValue().size())
+                        .build())
+                .sorted(MOST_USED_FIRST)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
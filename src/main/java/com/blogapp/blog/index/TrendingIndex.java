@@ -0,0 +1,440 @@
+package com.blogapp.blog.index;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.TrendingScore;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogEngagementEvent;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import com.blogapp.blog.repository.TrendingScoreRepository;
+import com.blogapp.blog.search.SearchHits;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published blogs ranked by an exponentially time-decayed engagement score.
+ *
+ * Uses forward decay: an engagement at time t adds weight × e^(λ(t − landmark)), so older
+ * engagement weighs less without ever touching stored scores — the order of accumulated
+ * values is the order of decayed scores. The landmark moves forward (and all values are
+ * rescaled) before the multiplier gets large.
+ *
+ * Every instance only sees its own engagement events, so blog_trending is the shared score:
+ * each instance adds the engagement it saw since its last write (decaying the stored score in the
+ * same pipeline update) and periodically reloads the sum of everyone's writes.
+ *
+ * Withdrawn engagement (like removed, comment hidden) was added at an earlier, smaller multiplier,
+ * so it is taken back at the average value its signal has added to the blog — never more.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingIndex {
+
+    // Rescale long before doubles lose precision
+    private static final double RESCALE_ABOVE = 1e60;
+
+    // Ranked pages are served from a snapshot at most this old once scores have changed
+    private static final long SNAPSHOT_MAX_AGE_MILLIS = 1000;
+
+    private static final Comparator<Map.Entry<String, Double>> HOTTEST_FIRST =
+            Map.Entry.<String, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final MongoTemplate mongoTemplate;
+    private final TrendingScoreRepository trendingScoreRepository;
+
+    @Value("${blog.trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    // Guarded by this — landmark-relative values, and what has not been added to blog_trending yet
+    private final Map<String, Double> values = new HashMap<>();
+    private final Map<String, Double> unpersisted = new HashMap<>();
+    // Guarded by this — initial scores of blogs that have none in blog_trending (written only if still absent)
+    private final Map<String, Double> seeds = new HashMap<>();
+
+    // Guarded by this — what each signal has added to a blog's value, and how many engagements that was
+    private final Map<String, Contributions> contributions = new HashMap<>();
+
+    // Persist and reload never overlap — a reload must see every delta either in blog_trending or in unpersisted
+    private final Object syncLock = new Object();
+    // Snapshot rebuilds are serialized, so an older ranking never replaces a newer one
+    private final Object snapshotLock = new Object();
+
+    private long landmarkMillis = System.currentTimeMillis();
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), 0);
+    private volatile boolean changed;
+    private volatile boolean ready;
+
+    /**
+     * Immutable ranking — blog ids hottest first, and each id's position.
+     */
+    private static final class Snapshot {
+        final List<String> ids;
+        final Map<String, Integer> positions;
+        final long builtAt;
+
+        Snapshot(Map<String, Double> values, long builtAt) {
+            this.ids = values.entrySet().stream()
+                    .sorted(HOTTEST_FIRST)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            this.positions = new HashMap<>(ids.size() * 2);
+            for (int i = 0; i < ids.size(); i++) {
+                positions.put(ids.get(i), i);
+            }
+            this.builtAt = builtAt;
+        }
+    }
+
+    private static final class Contributions {
+        final double[] value = new double[BlogEngagementEvent.Signal.values().length];
+        final long[] count = new long[BlogEngagementEvent.Signal.values().length];
+
+        void add(BlogEngagementEvent.Signal signal, long engagements, double multiplier) {
+            value[signal.ordinal()] += signal.getWeight() * engagements * multiplier;
+            count[signal.ordinal()] += engagements;
+        }
+
+        /**
+         * Take back engagements at their average added value and return the (negative) delta.
+         */
+        double withdraw(BlogEngagementEvent.Signal signal, long engagements) {
+            int i = signal.ordinal();
+            long withdrawn = Math.min(engagements, count[i]);
+            if (withdrawn <= 0) {
+                return 0;
+            }
+            double delta = value[i] * withdrawn / count[i];
+            value[i] -= delta;
+            count[i] -= withdrawn;
+            return -delta;
+        }
+
+        double total() {
+            double total = 0;
+            for (double v : value) {
+                total += v;
+            }
+            return total;
+        }
+
+        void scale(double factor) {
+            for (int i = 0; i < value.length; i++) {
+                value[i] *= factor;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * One page of blog ids, hottest first. When restrictTo is given, only those blogs are ranked.
+     */
+    public SearchHits rank(Set<String> restrictTo, int offset, int limit) {
+        Snapshot ranked = currentSnapshot();
+        List<String> ids = ranked.ids;
+        if (restrictTo == null) {
+            int from = Math.min(offset, ids.size());
+            int to = Math.min(from + limit, ids.size());
+            return new SearchHits(ids.subList(from, to), ids.size());
+        }
+
+        if (restrictTo.size() < ids.size()) {
+            // Narrow scope — sort its positions instead of walking the whole ranking
+            int[] positions = restrictTo.stream()
+                    .map(ranked.positions::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .sorted()
+                    .toArray();
+            List<String> page = new ArrayList<>(limit);
+            for (int i = offset; i < positions.length && page.size() < limit; i++) {
+                page.add(ids.get(positions[i]));
+            }
+            return new SearchHits(page, positions.length);
+        }
+
+        List<String> page = new ArrayList<>(limit);
+        long total = 0;
+        for (String blogId : ids) {
+            if (!restrictTo.contains(blogId)) {
+                continue;
+            }
+            if (total >= offset && page.size() < limit) {
+                page.add(blogId);
+            }
+            total++;
+        }
+        return new SearchHits(page, total);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        ready = true;
+    }
+
+    /**
+     * Another instance published or unpublished a blog — pick up its blog and score.
+     */
+    @EventListener
+    public void onCollectionVersion(CollectionVersionEvent event) {
+        if (ready && event.isArchiveChanged()) {
+            reload();
+        }
+    }
+
+    /**
+     * Write what this instance added, then replace all values with blog_trending (every instance's
+     * writes) plus whatever was added here since. Published blogs without a stored score are seeded.
+     */
+    public void reload() {
+        synchronized (syncLock) {
+            persist();
+
+            Map<String, TrendingScore> persisted = trendingScoreRepository.findAll().stream()
+                    .collect(Collectors.toMap(TrendingScore::getBlogId, Function.identity()));
+            List<BlogPost> published = new ArrayList<>();
+            Query query = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+            query.fields().include("viewsCount", "likesCount", "commentsCount", "publishedAt");
+            try (Stream<BlogPost> stream = mongoTemplate.stream(query, BlogPost.class)) {
+                stream.forEach(published::add);
+            }
+
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (multiplier(now) > RESCALE_ABOVE) {
+                    rescale(now);
+                }
+                values.clear();
+                contributions.clear();
+                Map<String, Double> pendingSeeds = new HashMap<>(seeds);
+                seeds.clear();
+                for (BlogPost blog : published) {
+                    TrendingScore stored = persisted.remove(blog.getId());
+                    // The stored score has no per-signal breakdown — the seed under-estimates it, which keeps withdrawals small
+                    double seeded = seed(blog);
+                    double value;
+                    if (stored != null) {
+                        value = stored.getScore() * multiplier(toMillis(stored.getScoredAt()));
+                    } else {
+                        value = pendingSeeds.getOrDefault(blog.getId(), seeded);
+                        seeds.put(blog.getId(), value);
+                    }
+                    values.put(blog.getId(), Math.max(0, value + unpersisted.getOrDefault(blog.getId(), 0d)));
+                }
+                unpersisted.keySet().retainAll(values.keySet());
+                changed = true;
+            }
+
+            // Scores of blogs no longer published (a late write from another instance may have recreated one)
+            if (!persisted.isEmpty()) {
+                trendingScoreRepository.deleteAllById(persisted.keySet());
+            }
+            log.debug("Trending index reloaded — {} blog(s)", published.size());
+        }
+    }
+
+    @EventListener
+    public synchronized void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!event.publishedSetChanged()) {
+            return;
+        }
+        String blogId = event.getBlog().getId();
+        if (event.isPublished()) {
+            double seeded = seed(event.getBlog());
+            values.put(blogId, seeded);
+            seeds.put(blogId, seeded);
+        } else {
+            values.remove(blogId);
+            contributions.remove(blogId);
+            unpersisted.remove(blogId);
+            seeds.remove(blogId);
+            trendingScoreRepository.deleteById(blogId);
+        }
+        changed = true;
+    }
+
+    @EventListener
+    public synchronized void onEngagement(BlogEngagementEvent event) {
+        Double current = values.get(event.getBlogId());
+        if (current == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (multiplier(now) > RESCALE_ABOVE) {
+            rescale(now);
+            current = values.get(event.getBlogId());
+        }
+
+        Contributions added = contributions.computeIfAbsent(event.getBlogId(), k -> new Contributions());
+        double delta;
+        if (event.getCount() >= 0) {
+            delta = event.getSignal().getWeight() * event.getCount() * multiplier(now);
+            added.add(event.getSignal(), event.getCount(), multiplier(now));
+        } else {
+            delta = added.withdraw(event.getSignal(), -event.getCount());
+        }
+        values.put(event.getBlogId(), Math.max(0, current + delta));
+        unpersisted.merge(event.getBlogId(), delta, Double::sum);
+        changed = true;
+    }
+
+    /**
+     * Add the engagement seen here since the last write to blog_trending, decayed to the current time.
+     * Each update decays the stored score to now and adds the delta in one pipeline, so concurrent
+     * writes from other instances add up instead of overwriting each other.
+     */
+    @PreDestroy
+    public void persist() {
+        synchronized (syncLock) {
+            Map<String, Double> deltas = new HashMap<>();
+            Map<String, Double> initial = new HashMap<>();
+            long now;
+            synchronized (this) {
+                if (unpersisted.isEmpty() && seeds.isEmpty()) {
+                    return;
+                }
+                now = System.currentTimeMillis();
+                double multiplier = multiplier(now);
+                unpersisted.forEach((id, delta) -> deltas.put(id, delta / multiplier));
+                seeds.forEach((id, seed) -> initial.put(id, seed / multiplier));
+                unpersisted.clear();
+                seeds.clear();
+            }
+
+            Date scoredAt = new Date(now);
+            double lambda = lambda();
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TrendingScore.class);
+            Set<String> ids = new HashSet<>(deltas.keySet());
+            ids.addAll(initial.keySet());
+            for (String blogId : ids) {
+                bulkOps.upsert(Query.query(Criteria.where("blogId").is(blogId)), addScore(
+                        initial.getOrDefault(blogId, 0d), deltas.getOrDefault(blogId, 0d), scoredAt, lambda));
+            }
+            try {
+                bulkOps.execute();
+                log.debug("Trending scores persisted for {} blog(s)", ids.size());
+            } catch (DataAccessException e) {
+                synchronized (this) {
+                    double multiplier = multiplier(now);
+                    deltas.forEach((id, delta) -> {
+                        if (values.containsKey(id)) {
+                            unpersisted.merge(id, delta * multiplier, Double::sum);
+                        }
+                    });
+                    initial.forEach((id, seed) -> {
+                        if (values.containsKey(id)) {
+                            seeds.putIfAbsent(id, seed * multiplier);
+                        }
+                    });
+                }
+                log.error("Failed to persist trending scores: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * score ← max(0, score × e^(−λ(now − scoredAt)) + delta), starting from {@code seed} when the blog
+     * has no stored score yet. The score stage reads scoredAt before the next stage moves it.
+     */
+    private static AggregationUpdate addScore(double seed, double delta, Date now, double lambda) {
+        Document decayed = new Document("$multiply", List.of("$score", new Document("$exp",
+                new Document("$multiply", List.of(-lambda, new Document("$subtract", List.of(now, "$scoredAt")))))));
+        AggregationExpression score = context -> new Document("$max", List.of(0d,
+                new Document("$add", List.of(new Document("$ifNull", List.of(decayed, seed)), delta))));
+        AggregationExpression scoredAt = context -> new Document("$literal", now);
+        AggregationUpdate update = AggregationUpdate.update();
+        update.set("score").toValue(score);
+        update.set("scoredAt").toValue(scoredAt);
+        return update;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (!changed || System.currentTimeMillis() - current.builtAt < SNAPSHOT_MAX_AGE_MILLIS) {
+            return current;
+        }
+        synchronized (snapshotLock) {
+            Map<String, Double> copy;
+            long now;
+            synchronized (this) {
+                if (!changed) {
+                    return snapshot;
+                }
+                changed = false;
+                now = System.currentTimeMillis();
+                copy = new HashMap<>(values);
+            }
+            // Sorted outside the monitor — engagement events are not held up by a ranking rebuild
+            snapshot = new Snapshot(copy, now);
+            return snapshot;
+        }
+    }
+
+    // Counters accumulated before scores existed — treated as if they all happened at publish time
+    private double seed(BlogPost blog) {
+        long at = blog.getPublishedAt() != null ? toMillis(blog.getPublishedAt()) : System.currentTimeMillis();
+        double multiplier = multiplier(at);
+        Contributions seeded = new Contributions();
+        seeded.add(BlogEngagementEvent.Signal.VIEW, blog.getViewsCount(), multiplier);
+        seeded.add(BlogEngagementEvent.Signal.LIKE, blog.getLikesCount(), multiplier);
+        seeded.add(BlogEngagementEvent.Signal.COMMENT, blog.getCommentsCount(), multiplier);
+        contributions.put(blog.getId(), seeded);
+        return seeded.total();
+    }
+
+    private void rescale(long now) {
+        double factor = 1 / multiplier(now);
+        landmarkMillis = now;
+        values.replaceAll((id, value) -> value * factor);
+        unpersisted.replaceAll((id, delta) -> delta * factor);
+        seeds.replaceAll((id, seed) -> seed * factor);
+        contributions.values().forEach(added -> added.scale(factor));
+        changed = true;
+        log.info("Trending landmark moved forward — {} score(s) rescaled", values.size());
+    }
+
+    private double multiplier(long atMillis) {
+        return Math.exp(lambda() * (atMillis - landmarkMillis));
+    }
+
+    private double lambda() {
+        return Math.log(2) / (halfLifeHours * 3_600_000d);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,25 +3,35 @@ package com.blogapp.blog.mapper;
 import com.blogapp.blog.dto.request.CreateBlogRequest;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.dto.response.RelatedBlogResponse;
+import com.blogapp.blog.dto.response.TocEntryResponse;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentEnrichment;
+import com.blogapp.blog.entity.RelatedBlogs;
 import com.blogapp.blog.enums.BlogStatus;
 import com.blogapp.common.util.HtmlSanitizer;
-import com.blogapp.common.util.SlugUtil;
+import com.blogapp.image.service.ImageService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class BlogMapper {
 
+    private final ImageService imageService;
+
     public BlogPost toEntity(CreateBlogRequest request) {
         return BlogPost.builder()
                 .title(request.getTitle())
-                .slug(SlugUtil.generateUniqueSlug(request.getTitle()))
                 .excerpt(request.getExcerpt())
-                .contentHtml(HtmlSanitizer.sanitize(request.getContentHtml()))
+                .contentHtml(HtmlSanitizer.clean(request.getContentHtml(), imageService::rewriteImages).getHtml())
                 .contentJson(request.getContentJson())
                 .featuredImageUrl(request.getFeaturedImageUrl())
+                .featuredImageSrcset(imageService.srcsetFor(request.getFeaturedImageUrl()))
                 .tags(request.getTags())
                 .status(BlogStatus.DRAFT)
                 .submittedAt(LocalDateTime.now())
@@ -29,12 +39,16 @@ public class BlogMapper {
     }
 
     public BlogSummaryResponse toSummaryResponse(BlogPost entity) {
+        ContentEnrichment enrichment = entity.getEnrichment();
+        boolean excerptBlank = entity.getExcerpt() == null || entity.getExcerpt().isBlank();
         return BlogSummaryResponse.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
                 .slug(entity.getSlug())
-                .excerpt(entity.getExcerpt())
+                .excerpt(excerptBlank && enrichment != null ? enrichment.getAutoExcerpt() : entity.getExcerpt())
+                .readingTimeMinutes(enrichment != null ? enrichment.getReadingTimeMinutes() : null)
                 .featuredImageUrl(entity.getFeaturedImageUrl())
+                .featuredImageSrcset(entity.getFeaturedImageSrcset())
                 .authorName(entity.getAuthorName())
                 .status(entity.getStatus())
                 .publishedAt(entity.getPublishedAt())
@@ -46,8 +60,10 @@ public class BlogMapper {
                 .build();
     }
 
+    // Detail keeps the author's excerpt as written (it is also what the edit form loads) and carries the automatic one alongside
     public BlogDetailResponse toDetailResponse(BlogPost entity) {
-        return BlogDetailResponse.builder()
+        ContentEnrichment enrichment = entity.getEnrichment();
+        BlogDetailResponse.BlogDetailResponseBuilder builder = BlogDetailResponse.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
                 .slug(entity.getSlug())
@@ -55,6 +71,7 @@ public class BlogMapper {
                 .contentHtml(entity.getContentHtml())
                 .contentJson(entity.getContentJson())
                 .featuredImageUrl(entity.getFeaturedImageUrl())
+                .featuredImageSrcset(entity.getFeaturedImageSrcset())
                 .authorName(entity.getAuthorName())
                 .authorEmail(entity.getAuthorEmail())
                 .status(entity.getStatus())
@@ -67,6 +84,40 @@ public class BlogMapper {
                 .commentsCount(entity.getCommentsCount())
                 .viewsCount(entity.getViewsCount())
                 .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt());
+        if (enrichment != null) {
+            builder.autoExcerpt(enrichment.getAutoExcerpt())
+                    .wordCount(enrichment.getWordCount())
+                    .readingTimeMinutes(enrichment.getReadingTimeMinutes())
+                    .toc(toTocResponse(enrichment.getToc()))
+                    .outboundLinks(enrichment.getOutboundLinks())
+                    .images(enrichment.getImages())
+                    .enrichedAt(enrichment.getEnrichedAt());
+        }
+        return builder.build();
+    }
+
+    public RelatedBlogResponse toRelatedResponse(RelatedBlogs.Neighbour neighbour) {
+        return RelatedBlogResponse.builder()
+                .title(neighbour.getTitle())
+                .slug(neighbour.getSlug())
+                .excerpt(neighbour.getExcerpt())
+                .featuredImageUrl(neighbour.getFeaturedImageUrl())
+                .publishedAt(neighbour.getPublishedAt())
+                .score(neighbour.getScore())
                 .build();
     }
+
+    private static List<TocEntryResponse> toTocResponse(List<ContentEnrichment.TocEntry> toc) {
+        if (toc == null) {
+            return null;
+        }
+        return toc.stream()
+                .map(entry -> TocEntryResponse.builder()
+                        .level(entry.getLevel())
+                        .text(entry.getText())
+                        .anchor(entry.getAnchor())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
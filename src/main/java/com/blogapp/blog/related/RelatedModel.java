@@ -0,0 +1,303 @@
+package com.blogapp.blog.related;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TF-IDF vectors and MinHash/LSH buckets of the published catalog.
+ * Not thread-safe — RelatedPostsEngine guards it with a read/write lock.
+ *
+ * Candidates for a blog are the blogs sharing at least one LSH band with it; only those
+ * are scored by cosine similarity, so a lookup stays well below a full catalog scan.
+ * Small catalogs are scanned in full — LSH would only cost recall there.
+ */
+final class RelatedModel {
+
+    static final int BRUTE_FORCE_LIMIT = 256;
+
+    // 32 bands × 2 rows — pairs with roughly 0.2+ Jaccard overlap of their sketches become candidates
+    private static final int BANDS = 32;
+    private static final int ROWS = 2;
+    private static final int HASHES = BANDS * ROWS;
+
+    // MinHash runs over a doc's strongest terms, not its whole vocabulary — long posts would
+    // otherwise look unrelated to everything
+    private static final int SKETCH_TERMS = 24;
+
+    private static final long[] HASH_SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            HASH_SEEDS[i] = seed;
+        }
+    }
+
+    /**
+     * A blog as a sparse term vector — term ids ascending, weights are field-weighted log tf.
+     */
+    static final class Doc {
+        final int[] terms;
+        final float[] tf;
+        final int[] signature;
+
+        Doc(int[] terms, float[] tf, int[] signature) {
+            this.terms = terms;
+            this.tf = tf;
+            this.signature = signature;
+        }
+    }
+
+    static final class Scored {
+        final String blogId;
+        final double score;
+
+        Scored(String blogId, double score) {
+            this.blogId = blogId;
+            this.score = score;
+        }
+    }
+
+    // Ids of terms no blog uses any more are freed and handed out again, so the vocabulary
+    // tracks the current catalog instead of every term ever seen
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> termNames = new ArrayList<>();
+    private final List<Integer> documentFrequency = new ArrayList<>();
+    private final Deque<Integer> freeTermIds = new ArrayDeque<>();
+    private final Map<String, Doc> docs = new HashMap<>();
+    private final Map<Long, Set<String>> buckets = new HashMap<>();
+
+    Set<String> blogIds() {
+        return new HashSet<>(docs.keySet());
+    }
+
+    /**
+     * Terms used by at least one blog.
+     */
+    int vocabularySize() {
+        return termIds.size();
+    }
+
+    void clear() {
+        termIds.clear();
+        termNames.clear();
+        documentFrequency.clear();
+        freeTermIds.clear();
+        docs.clear();
+        buckets.clear();
+    }
+
+    /**
+     * Add or replace a blog. Term weights map a term to its field-weighted occurrence count.
+     */
+    void put(String blogId, Map<String, Float> termWeights) {
+        remove(blogId);
+
+        int[] terms = new int[termWeights.size()];
+        float[] tf = new float[termWeights.size()];
+        Integer[] order = new Integer[termWeights.size()];
+        int i = 0;
+        Map<Integer, Float> byId = new HashMap<>();
+        for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+            int id = termIds.computeIfAbsent(entry.getKey(), this::newTermId);
+            documentFrequency.set(id, documentFrequency.get(id) + 1);
+            byId.put(id, entry.getValue());
+            order[i++] = id;
+        }
+        Arrays.sort(order);
+        for (i = 0; i < order.length; i++) {
+            terms[i] = order[i];
+            tf[i] = (float) (1 + Math.log(byId.get(order[i])));
+        }
+
+        Doc doc = new Doc(terms, tf, signature(terms, tf));
+        docs.put(blogId, doc);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(doc.signature, band), k -> new HashSet<>()).add(blogId);
+        }
+    }
+
+    void remove(String blogId) {
+        Doc doc = docs.remove(blogId);
+        if (doc == null) {
+            return;
+        }
+        for (int term : doc.terms) {
+            int frequency = documentFrequency.get(term) - 1;
+            documentFrequency.set(term, frequency);
+            if (frequency == 0) {
+                termIds.remove(termNames.get(term));
+                termNames.set(term, null);
+                freeTermIds.push(term);
+            }
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(doc.signature, band);
+            Set<String> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(blogId) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Blogs worth scoring against the given one (excluding itself).
+     */
+    Set<String> candidates(String blogId) {
+        Doc doc = docs.get(blogId);
+        if (doc == null) {
+            return new HashSet<>();
+        }
+        if (docs.size() <= BRUTE_FORCE_LIMIT) {
+            Set<String> all = blogIds();
+            all.remove(blogId);
+            return all;
+        }
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<String> bucket = buckets.get(bandKey(doc.signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(blogId);
+        return candidates;
+    }
+
+    /**
+     * Top-k candidates by TF-IDF cosine similarity, best first.
+     */
+    List<Scored> neighbours(String blogId, int k) {
+        Doc doc = docs.get(blogId);
+        if (doc == null) {
+            return List.of();
+        }
+        double norm = norm(doc);
+        if (norm == 0) {
+            return List.of();
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (String candidateId : candidates(blogId)) {
+            Doc candidate = docs.get(candidateId);
+            double candidateNorm = norm(candidate);
+            if (candidateNorm == 0) {
+                continue;
+            }
+            double cosine = dot(doc, candidate) / (norm * candidateNorm);
+            if (cosine > 0) {
+                scored.add(new Scored(candidateId, cosine));
+            }
+        }
+        scored.sort(Comparator.comparingDouble((Scored s) -> s.score).reversed()
+                .thenComparing(s -> s.blogId));
+        return scored.size() > k ? new ArrayList<>(scored.subList(0, k)) : scored;
+    }
+
+    private int newTermId(String term) {
+        Integer free = freeTermIds.poll();
+        if (free != null) {
+            termNames.set(free, term);
+            return free;
+        }
+        termNames.add(term);
+        documentFrequency.add(0);
+        return documentFrequency.size() - 1;
+    }
+
+    private double idf(int term) {
+        return Math.log((docs.size() + 1.0) / (documentFrequency.get(term) + 1.0)) + 1;
+    }
+
+    private double norm(Doc doc) {
+        double sum = 0;
+        for (int i = 0; i < doc.terms.length; i++) {
+            double w = doc.tf[i] * idf(doc.terms[i]);
+            sum += w * w;
+        }
+        return Math.sqrt(sum);
+    }
+
+    // Merge of two ascending term arrays
+    private double dot(Doc a, Doc b) {
+        double sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.terms.length && j < b.terms.length) {
+            if (a.terms[i] < b.terms[j]) {
+                i++;
+            } else if (a.terms[i] > b.terms[j]) {
+                j++;
+            } else {
+                double idf = idf(a.terms[i]);
+                sum += a.tf[i] * b.tf[j] * idf * idf;
+                i++;
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static int[] signature(int[] terms, float[] tf) {
+        int[] sketch = sketchTerms(terms, tf);
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int term : sketch) {
+            for (int h = 0; h < HASHES; h++) {
+                int value = (int) (mix(term ^ HASH_SEEDS[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static int[] sketchTerms(int[] terms, float[] tf) {
+        if (terms.length <= SKETCH_TERMS) {
+            return terms;
+        }
+        Integer[] order = new Integer[terms.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> tf[x] != tf[y] ? Float.compare(tf[y], tf[x]) : Integer.compare(terms[x], terms[y]));
+        int[] sketch = new int[SKETCH_TERMS];
+        for (int i = 0; i < SKETCH_TERMS; i++) {
+            sketch[i] = terms[order[i]];
+        }
+        return sketch;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int r = 0; r < ROWS; r++) {
+            key = key * 0x100000001B3L + signature[band * ROWS + r];
+        }
+        return mix(key);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    static Map<String, Float> termWeights(Collection<String> terms, float fieldWeight, Map<String, Float> into) {
+        for (String term : terms) {
+            into.merge(term, fieldWeight, Float::sum);
+        }
+        return into;
+    }
+}
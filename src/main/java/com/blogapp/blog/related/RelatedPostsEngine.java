@@ -0,0 +1,436 @@
+package com.blogapp.blog.related;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.JobLease;
+import com.blogapp.blog.entity.RelatedBlogs;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import com.blogapp.blog.repository.RelatedBlogsRepository;
+import com.blogapp.blog.search.TextAnalyzer;
+import com.blogapp.common.util.HtmlSanitizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-based related posts. Keeps TF-IDF vectors of the published catalog in memory
+ * (title, tags and stripped content) and writes each blog's top-K neighbours to blog_related.
+ *
+ * When a blog is published, edited or unpublished, the blog itself, its LSH candidates and
+ * every blog currently listing it are recomputed in parallel on a dedicated fork-join pool.
+ * Batches run one after another, so a later change is never overwritten by an earlier one.
+ *
+ * Only one instance — the holder of the "related-posts" lease in job_leases — keeps the model
+ * and writes blog_related. It catches up on changes made elsewhere when the shared content
+ * version moves; another instance takes over (with a full rebuild) once the lease lapses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedPostsEngine {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TAG_WEIGHT = 2f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    private static final String LEASE = "related-posts";
+
+    // Re-read blogs saved slightly before the last sync too — other instances' clocks and in-flight saves
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final RelatedBlogsRepository relatedBlogsRepository;
+
+    @Value("${blog.related.top-k:6}")
+    private int topK;
+
+    @Value("${blog.related.parallelism:2}")
+    private int parallelism;
+
+    @Value("${blog.related.lease-seconds:60}")
+    private long leaseSeconds;
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private volatile boolean owner;
+    private LocalDateTime heldUntil; // guarded by this
+
+    private static final String[] SOURCE_FIELDS = {
+            "title", "slug", "tags", "excerpt", "contentHtml", "featuredImageUrl", "publishedAt", "updatedAt"
+    };
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RelatedModel model = new RelatedModel();
+    private final Map<String, RelatedBlogs.Neighbour> summaries = new HashMap<>();
+
+    // blogId → ids it currently lists, and the reverse — only touched by batch tasks
+    private final Map<String, List<String>> neighbourIds = new HashMap<>();
+    private final Map<String, Set<String>> listedBy = new HashMap<>();
+
+    // blogId → updatedAt of the version in the model, and when blog_posts was last read — batch tasks only
+    private final Map<String, LocalDateTime> indexedVersions = new HashMap<>();
+    private LocalDateTime syncedAt;
+
+    private ForkJoinPool pool;
+    private ExecutorService batches;
+
+    @PostConstruct
+    void start() {
+        pool = new ForkJoinPool(Math.max(1, parallelism));
+        batches = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "related-posts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        batches.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        renewLease();
+    }
+
+    /**
+     * Renew the lease, or take it over once the previous owner's has lapsed. A new owner rebuilds
+     * from blog_posts; an instance that lost the lease drops its model and stops writing.
+     */
+    @Scheduled(fixedDelayString = "${blog.related.lease-renew-interval-ms:20000}",
+            initialDelayString = "${blog.related.lease-renew-interval-ms:20000}")
+    public synchronized void renewLease() {
+        boolean held = tryAcquireLease();
+        if (held && !owner) {
+            owner = true;
+            log.info("Related posts lease acquired — this instance maintains blog_related");
+            runBatch("rebuild", this::rebuild);
+        } else if (!held && owner) {
+            owner = false;
+            log.warn("Related posts lease lost — another instance maintains blog_related");
+            runBatch("release", this::clear);
+        }
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!owner || (!event.isPublished() && !event.wasPublished())) {
+            return;
+        }
+        BlogPost blog = event.getBlog();
+        // Copy what the batch needs — the entity stays with the caller, and analysis runs off the request thread
+        String blogId = blog.getId();
+        String slug = blog.getSlug();
+        RelatedBlogs.Neighbour summary = event.isPublished() ? summaryOf(blog) : null;
+        String title = blog.getTitle();
+        List<String> tags = blog.getTags() != null ? new ArrayList<>(blog.getTags()) : null;
+        String contentHtml = blog.getContentHtml();
+        LocalDateTime updatedAt = blog.getUpdatedAt();
+
+        runBatch("update of blog " + blogId, () -> apply(blogId, slug, summary,
+                summary != null ? analyze(title, tags, contentHtml) : null, updatedAt));
+    }
+
+    /**
+     * Another instance published, edited or unpublished a blog — the owner catches up.
+     */
+    @EventListener
+    public void onCollectionVersion(CollectionVersionEvent event) {
+        if (owner && event.isContentChanged()) {
+            runBatch("sync", this::sync);
+        }
+    }
+
+    private void runBatch(String name, Runnable task) {
+        batches.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Related posts {} failed: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private boolean tryAcquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseSeconds);
+        Query query = Query.query(Criteria.where("id").is(LEASE)
+                .orOperator(Criteria.where("owner").is(instanceId), Criteria.where("expiresAt").lt(now)));
+        try {
+            mongoTemplate.upsert(query, new Update().set("owner", instanceId).set("expiresAt", expiresAt),
+                    JobLease.class);
+            heldUntil = expiresAt;
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false; // held by another instance — the upsert tried to insert a second lease
+        } catch (DataAccessException e) {
+            // Keep what we have until our own lease would have run out
+            log.warn("Related posts lease renewal failed: {}", e.getMessage());
+            return owner && heldUntil != null && now.isBefore(heldUntil);
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        query.fields().include(SOURCE_FIELDS);
+
+        clear();
+        lock.writeLock().lock();
+        try (Stream<BlogPost> stream = mongoTemplate.stream(query, BlogPost.class)) {
+            stream.forEach(blog -> {
+                model.put(blog.getId(), analyze(blog));
+                summaries.put(blog.getId(), summaryOf(blog));
+                indexedVersions.put(blog.getId(), blog.getUpdatedAt());
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        syncedAt = startedAt;
+
+        Set<String> all;
+        int vocabulary;
+        lock.readLock().lock();
+        try {
+            all = model.blogIds();
+            vocabulary = model.vocabularySize();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int written = recompute(all, null);
+        if (owner) {
+            relatedBlogsRepository.deleteByComputedAtBefore(startedAt);
+        }
+        log.info("Related posts computed — {} blog(s), {} term(s), {} written", all.size(), vocabulary, written);
+    }
+
+    /**
+     * Apply blogs saved or unpublished elsewhere since the last read of blog_posts.
+     */
+    private void sync() {
+        if (syncedAt == null) {
+            rebuild(); // the first rebuild failed
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Query changed = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED)
+                .and("updatedAt").gte(syncedAt.minus(SYNC_OVERLAP)));
+        changed.fields().include(SOURCE_FIELDS);
+        int applied = 0;
+        for (BlogPost blog : mongoTemplate.find(changed, BlogPost.class)) {
+            if (!indexedVersions.containsKey(blog.getId())
+                    || !Objects.equals(indexedVersions.get(blog.getId()), blog.getUpdatedAt())) {
+                apply(blog.getId(), blog.getSlug(), summaryOf(blog), analyze(blog), blog.getUpdatedAt());
+                applied++;
+            }
+        }
+
+        Query published = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        published.fields().include("id");
+        Set<String> publishedIds = mongoTemplate.find(published, BlogPost.class).stream()
+                .map(BlogPost::getId)
+                .collect(Collectors.toSet());
+        for (String blogId : new ArrayList<>(indexedVersions.keySet())) {
+            if (!publishedIds.contains(blogId)) {
+                RelatedBlogs.Neighbour summary;
+                lock.readLock().lock();
+                try {
+                    summary = summaries.get(blogId);
+                } finally {
+                    lock.readLock().unlock();
+                }
+                apply(blogId, summary != null ? summary.getSlug() : null, null, null, null);
+                applied++;
+            }
+        }
+        syncedAt = startedAt;
+        if (applied > 0) {
+            log.debug("Related posts caught up on {} change(s) from other instances", applied);
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            model.clear();
+            summaries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        neighbourIds.clear();
+        listedBy.clear();
+        indexedVersions.clear();
+    }
+
+    private void apply(String blogId, String slug, RelatedBlogs.Neighbour summary, Map<String, Float> terms,
+            LocalDateTime updatedAt) {
+        Set<String> affected = new HashSet<>(listedBy.getOrDefault(blogId, Set.of()));
+
+        lock.writeLock().lock();
+        try {
+            // Candidates before and after the change — both may need to gain or lose this blog
+            affected.addAll(model.candidates(blogId));
+            if (terms != null) {
+                model.put(blogId, terms);
+                summaries.put(blogId, summary);
+                affected.addAll(model.candidates(blogId));
+                affected.add(blogId);
+            } else {
+                model.remove(blogId);
+                summaries.remove(blogId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (terms == null) {
+            affected.remove(blogId);
+            forget(blogId);
+            indexedVersions.remove(blogId);
+            if (owner && slug != null) {
+                relatedBlogsRepository.deleteById(slug);
+            }
+        } else {
+            indexedVersions.put(blogId, updatedAt);
+        }
+
+        int written = recompute(affected, blogId);
+        log.debug("Related posts updated for blog {} — {} recomputed, {} written", blogId, affected.size(), written);
+    }
+
+    /**
+     * Recompute neighbours of the given blogs in parallel and write those whose list changed
+     * (or that list the changed blog, whose summary may be stale). Returns the number written.
+     */
+    private int recompute(Collection<String> blogIds, String changedId) {
+        List<RelatedBlogs> computed;
+        lock.readLock().lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            computed = pool.submit(() -> blogIds.parallelStream()
+                    .map(id -> compute(id, now))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())).join();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<RelatedBlogs> changed = computed.stream()
+                .filter(related -> {
+                    List<String> ids = related.getNeighbours().stream()
+                            .map(RelatedBlogs.Neighbour::getBlogId)
+                            .collect(Collectors.toList());
+                    boolean write = changedId == null
+                            || related.getBlogId().equals(changedId)
+                            || ids.contains(changedId)
+                            || !ids.equals(neighbourIds.get(related.getBlogId()));
+                    remember(related.getBlogId(), ids);
+                    return write;
+                })
+                .collect(Collectors.toList());
+
+        // Lease lost while computing — the new owner's rebuild covers these
+        if (changed.isEmpty() || !owner) {
+            return 0;
+        }
+        relatedBlogsRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    private RelatedBlogs compute(String blogId, LocalDateTime now) {
+        RelatedBlogs.Neighbour self = summaries.get(blogId);
+        if (self == null) {
+            return null;
+        }
+        List<RelatedBlogs.Neighbour> neighbours = model.neighbours(blogId, topK).stream()
+                .map(scored -> {
+                    RelatedBlogs.Neighbour summary = summaries.get(scored.blogId);
+                    return summary.toBuilder().score(Math.round(scored.score * 1000) / 1000.0).build();
+                })
+                .collect(Collectors.toList());
+
+        return RelatedBlogs.builder()
+                .slug(self.getSlug())
+                .blogId(blogId)
+                .neighbours(neighbours)
+                .computedAt(now)
+                .build();
+    }
+
+    private void remember(String blogId, List<String> ids) {
+        forget(blogId);
+        neighbourIds.put(blogId, ids);
+        ids.forEach(id -> listedBy.computeIfAbsent(id, k -> new HashSet<>()).add(blogId));
+    }
+
+    private void forget(String blogId) {
+        List<String> previous = neighbourIds.remove(blogId);
+        if (previous == null) {
+            return;
+        }
+        for (String id : previous) {
+            Set<String> listers = listedBy.get(id);
+            if (listers != null && listers.remove(blogId) && listers.isEmpty()) {
+                listedBy.remove(id);
+            }
+        }
+    }
+
+    private static Map<String, Float> analyze(BlogPost blog) {
+        return analyze(blog.getTitle(), blog.getTags(), blog.getContentHtml());
+    }
+
+    private static Map<String, Float> analyze(String title, List<String> tags, String contentHtml) {
+        Map<String, Float> terms = new HashMap<>();
+        RelatedModel.termWeights(TextAnalyzer.analyze(title), TITLE_WEIGHT, terms);
+        if (tags != null) {
+            RelatedModel.termWeights(TextAnalyzer.analyze(String.join(" ", tags)), TAG_WEIGHT, terms);
+        }
+        RelatedModel.termWeights(TextAnalyzer.analyze(HtmlSanitizer.stripAll(contentHtml)), CONTENT_WEIGHT, terms);
+        return terms;
+    }
+
+    private static RelatedBlogs.Neighbour summaryOf(BlogPost blog) {
+        return RelatedBlogs.Neighbour.builder()
+                .blogId(blog.getId())
+                .slug(blog.getSlug())
+                .title(blog.getTitle())
+                .excerpt(blog.getExcerpt())
+                .featuredImageUrl(blog.getFeaturedImageUrl())
+                .publishedAt(blog.getPublishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.ArchiveMonthCount;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchiveMonthCountRepository extends MongoRepository<ArchiveMonthCount, String> {
+}
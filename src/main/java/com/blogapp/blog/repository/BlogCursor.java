@@ -0,0 +1,85 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogSort;
+import com.blogapp.common.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in the published listing, serialized as an opaque URL-safe token.
+ * Keyset cursors hold the sort key of the last returned blog plus its id — base64("SORT|value|id").
+ * Ranked search results have no stable sort key, so their cursor holds an offset — base64("RELEVANCE|offset|");
+ * the same goes for ranked sorts such as TRENDING — base64("TRENDING|offset|").
+ */
+@Getter
+@AllArgsConstructor
+public class BlogCursor {
+
+    private static final String RELEVANCE = "RELEVANCE";
+
+    private final BlogSort sort; // null for ranked search results
+    private final Object value;
+    private final String id; // null for offset cursors
+
+    public static BlogCursor after(BlogPost last, BlogSort sort) {
+        Object value = switch (sort) {
+            case RECENT, OLDEST, TRENDING -> last.getPublishedAt();
+            case POPULAR -> last.getLikesCount();
+            case MOST_COMMENTED -> last.getCommentsCount();
+        };
+        return new BlogCursor(sort, value, last.getId());
+    }
+
+    public static BlogCursor atRelevanceOffset(int offset) {
+        return atOffset(null, offset);
+    }
+
+    public static BlogCursor atOffset(BlogSort sort, int offset) {
+        return new BlogCursor(sort, offset, null);
+    }
+
+    public boolean isRelevance() {
+        return sort == null;
+    }
+
+    public boolean isOffset() {
+        return id == null;
+    }
+
+    public int getOffset() {
+        return (Integer) value;
+    }
+
+    public String encode() {
+        String raw = (sort != null ? sort.name() : RELEVANCE) + "|" + (value != null ? value : "") + "|"
+                + (id != null ? id : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BlogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            BlogSort sort = parts[0].equals(RELEVANCE) ? null : BlogSort.valueOf(parts[0]);
+            if (sort == null || (sort.isRanked() && parts[2].isEmpty())) {
+                int offset = Integer.parseInt(parts[1]);
+                if (offset < 0) {
+                    throw new IllegalArgumentException("negative offset");
+                }
+                return atOffset(sort, offset);
+            }
+            Object value = parts[1].isEmpty() ? null : switch (sort) {
+                case RECENT, OLDEST, TRENDING -> LocalDateTime.parse(parts[1]);
+                case POPULAR, MOST_COMMENTED -> Long.parseLong(parts[1]);
+            };
+            return new BlogCursor(sort, value, parts[2]);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
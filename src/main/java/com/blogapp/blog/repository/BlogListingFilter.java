@@ -0,0 +1,43 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.enums.BlogStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filter for blog listing queries. Null fields are not applied;
+ * month is only applied together with year.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogListingFilter {
+
+    private BlogStatus status;
+
+    private String search;
+
+    private String tag;
+
+    private Integer year;
+
+    private Integer month;
+
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+
+    public boolean hasTag() {
+        return tag != null && !tag.isBlank();
+    }
+
+    /**
+     * True when nothing would be filtered — the query matches the whole collection.
+     */
+    public boolean isEmpty() {
+        return status == null && !hasSearch() && !hasTag() && year == null;
+    }
+}
@@ -8,16 +8,28 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BlogPostRepository extends MongoRepository<BlogPost, String> {
+public interface BlogPostRepository extends MongoRepository<BlogPost, String>, BlogPostRepositoryCustom {
 
     Optional<BlogPost> findBySlug(String slug);
 
     boolean existsBySlug(String slug);
 
+    List<BlogPost> findBySlugInAndStatus(Collection<String> slugs, BlogStatus status);
+
+    // Validators only (id, status, updatedAt, enrichedAt, counters) — for conditional GETs
+    @Query(value = "{ 'slug': ?0 }", fields = "{ '_id': 1, 'status': 1, 'updatedAt': 1, 'enrichment.enrichedAt': 1, "
+            + "'likesCount': 1, 'dislikesCount': 1, 'commentsCount': 1 }")
+    Optional<BlogPost> findVersionBySlug(String slug);
+
+    // Counters only — content is never loaded
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'likesCount': 1, 'dislikesCount': 1, 'commentsCount': 1 }")
+    Optional<BlogPost> findEngagementById(String id);
+
     Page<BlogPost> findByStatus(BlogStatus status, Pageable pageable);
 
     Page<BlogPost> findByStatusAndYearAndMonth(BlogStatus status, Integer year, Integer month, Pageable pageable);
@@ -39,6 +51,9 @@ public interface BlogPostRepository extends MongoRepository<BlogPost, String> {
     // For archive aggregation — handled in service with MongoTemplate
     long countByStatusAndYearAndMonth(BlogStatus status, int year, int month);
 
+    // Archive index drift check
+    long countByStatus(BlogStatus status);
+
     // Find by status for admin
     Page<BlogPost> findByStatusIn(List<BlogStatus> statuses, Pageable pageable);
 
@@ -0,0 +1,105 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentEnrichment;
+import com.blogapp.blog.enums.BlogSort;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+public interface BlogPostRepositoryCustom {
+
+    /**
+     * Listing query that only loads the fields shown on summary cards —
+     * contentHtml and contentJson are never fetched. The total is only asked for
+     * when the page alone can't tell it.
+     */
+    Page<BlogPost> findSummaries(BlogListingFilter filter, Pageable pageable, LongSupplier total);
+
+    /**
+     * Full documents matching the filter (admin listing). Same total handling as {@link #findSummaries}.
+     */
+    Page<BlogPost> findByFilter(BlogListingFilter filter, Pageable pageable, LongSupplier total);
+
+    /**
+     * Exact number of blogs matching the filter (countDocuments).
+     */
+    long countMatching(BlogListingFilter filter);
+
+    /**
+     * Collection size from metadata — cheap, but may be slightly off after unclean shutdowns.
+     */
+    long estimatedCount();
+
+    /**
+     * Keyset variant of {@link #findSummaries} — returns up to {@code limit} summaries that sort
+     * strictly after the cursor (or from the start when it is null). Never issues a count.
+     */
+    List<BlogPost> findSummariesAfter(BlogListingFilter filter, BlogSort sort, BlogCursor after, int limit);
+
+    /**
+     * Published summaries for the given ids, in the same order as the ids.
+     * Ids that are missing or no longer published are skipped.
+     */
+    List<BlogPost> findPublishedSummariesByIds(List<String> ids);
+
+    /**
+     * Ids of all blogs matching the filter — for ranking the matches in memory.
+     */
+    Set<String> findIds(BlogListingFilter filter);
+
+    /**
+     * Slugs equal to base or of the form base-N — one anchored prefix query on the slug index.
+     */
+    Set<String> findSlugsWithBase(String base);
+
+    /**
+     * Up to {@code limit} blogs whose enrichment is missing or older than their last save —
+     * only id, slug, status, contentHtml and updatedAt are loaded.
+     */
+    List<BlogPost> findUnenriched(int limit);
+
+    /**
+     * Store the enrichment if the blog's updatedAt still equals {@code sourceUpdatedAt}.
+     * Returns false when the blog was saved again (or deleted) in the meantime.
+     */
+    boolean updateEnrichment(String id, LocalDateTime sourceUpdatedAt, ContentEnrichment enrichment);
+
+    /**
+     * Add the deltas to likesCount, dislikesCount and commentsCount in one findAndModify, never
+     * taking a counter below zero. Returns the blog with only its id, slug and new counts loaded, or
+     * null when it does not exist.
+     */
+    BlogPost adjustEngagementCounts(String id, long likesDelta, long dislikesDelta, long commentsDelta);
+
+    /*
+     * Targeted writes — each sets only the fields it changes (plus updatedAt), so counters and
+     * enrichment written concurrently are never overwritten with a stale copy. They return the
+     * blog as written, or null when no blog matched.
+     */
+
+    /**
+     * PENDING → PUBLISHED, stamping publishedAt with its derived year/month and clearing any rejection reason.
+     */
+    BlogPost publish(String id, String adminId, LocalDateTime publishedAt);
+
+    /**
+     * PENDING → REJECTED with the reason.
+     */
+    BlogPost reject(String id, String reason);
+
+    /**
+     * Store the editable fields (title, excerpt, content, featured image and tags) of the given blog.
+     */
+    BlogPost updateContent(BlogPost blog);
+
+    /**
+     * Flag the blogs as included in a subscriber notification — updatedAt is left alone.
+     */
+    void markEmailSent(Collection<String> ids);
+}
@@ -0,0 +1,257 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentEnrichment;
+import com.blogapp.blog.enums.BlogSort;
+import com.blogapp.blog.enums.BlogStatus;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class BlogPostRepositoryCustomImpl implements BlogPostRepositoryCustom {
+
+    // Everything BlogSummaryResponse needs (plus _id, which is always returned)
+    static final String[] SUMMARY_FIELDS = {
+            "title", "slug", "excerpt", "featuredImageUrl", "featuredImageSrcset", "authorName", "status", "publishedAt", "tags",
+            "likesCount", "dislikesCount", "commentsCount", "viewsCount",
+            "enrichment.readingTimeMinutes", "enrichment.autoExcerpt"
+    };
+
+    private static final String[] ENGAGEMENT_FIELDS = { "slug", "likesCount", "dislikesCount", "commentsCount" };
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<BlogPost> findSummaries(BlogListingFilter filter, Pageable pageable, LongSupplier total) {
+        Query query = buildQuery(filter).with(pageable);
+        query.fields().include(SUMMARY_FIELDS);
+
+        List<BlogPost> content = mongoTemplate.find(query, BlogPost.class);
+
+        // Count only when the page alone can't tell us the total
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public Page<BlogPost> findByFilter(BlogListingFilter filter, Pageable pageable, LongSupplier total) {
+        List<BlogPost> content = mongoTemplate.find(buildQuery(filter).with(pageable), BlogPost.class);
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public long countMatching(BlogListingFilter filter) {
+        return mongoTemplate.count(buildQuery(filter), BlogPost.class);
+    }
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(BlogPost.class);
+    }
+
+    @Override
+    public List<BlogPost> findSummariesAfter(BlogListingFilter filter, BlogSort sort, BlogCursor after, int limit) {
+        Query query = buildQuery(filter);
+        if (after != null) {
+            query.addCriteria(keysetCriteria(sort, after));
+        }
+        query.with(sort.toSort()).limit(limit);
+        query.fields().include(SUMMARY_FIELDS);
+
+        return mongoTemplate.find(query, BlogPost.class);
+    }
+
+    @Override
+    public List<BlogPost> findPublishedSummariesByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = Query.query(Criteria.where("id").in(ids).and("status").is(BlogStatus.PUBLISHED));
+        query.fields().include(SUMMARY_FIELDS);
+
+        Map<String, BlogPost> byId = mongoTemplate.find(query, BlogPost.class).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findIds(BlogListingFilter filter) {
+        Query query = buildQuery(filter);
+        query.fields().include("id");
+        return mongoTemplate.find(query, BlogPost.class).stream()
+                .map(BlogPost::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> findSlugsWithBase(String base) {
+        // Anchored, case-sensitive literal prefix — MongoDB turns it into a range scan on the slug index.
+        // Slugs are [a-z0-9-] only, so the base needs no escaping (\Q…\E would defeat the prefix bounds)
+        Query query = Query.query(Criteria.where("slug").regex("^" + base + "(-\\d+)?$"));
+        query.fields().include("slug");
+        return mongoTemplate.find(query, BlogPost.class).stream()
+                .map(BlogPost::getSlug)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<BlogPost> findUnenriched(int limit) {
+        // $expr compares two fields of the same document — no index can serve it, so this scans;
+        // it runs off the request path and stops at the limit
+        Criteria stale = Criteria.expr(ComparisonOperators.valueOf("enrichment.sourceUpdatedAt").lessThan("updatedAt"));
+        Query query = Query.query(new Criteria().orOperator(Criteria.where("enrichment").is(null), stale)).limit(limit);
+        query.fields().include("slug", "status", "contentHtml", "updatedAt");
+        return mongoTemplate.find(query, BlogPost.class);
+    }
+
+    @Override
+    public boolean updateEnrichment(String id, LocalDateTime sourceUpdatedAt, ContentEnrichment enrichment) {
+        // Only while the blog is still the version it was computed from — a newer save gets its own run
+        Query query = Query.query(Criteria.where("id").is(id).and("updatedAt").is(sourceUpdatedAt));
+        return mongoTemplate.updateFirst(query, Update.update("enrichment", enrichment), BlogPost.class)
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public BlogPost adjustEngagementCounts(String id, long likesDelta, long dislikesDelta, long commentsDelta) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include(ENGAGEMENT_FIELDS);
+        if (likesDelta == 0 && dislikesDelta == 0 && commentsDelta == 0) {
+            return mongoTemplate.findOne(query, BlogPost.class); // an empty pipeline is rejected
+        }
+
+        // A pipeline update, so the floor is applied server-side in the same atomic write as the $inc
+        AggregationUpdate update = AggregationUpdate.update();
+        addFloored(update, "likesCount", likesDelta);
+        addFloored(update, "dislikesCount", dislikesDelta);
+        addFloored(update, "commentsCount", commentsDelta);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                BlogPost.class);
+    }
+
+    @Override
+    public BlogPost publish(String id, String adminId, LocalDateTime publishedAt) {
+        return setAndGet(Criteria.where("id").is(id).and("status").is(BlogStatus.PENDING), new Update()
+                .set("status", BlogStatus.PUBLISHED)
+                .set("publishedAt", publishedAt)
+                .set("year", publishedAt.getYear())
+                .set("month", publishedAt.getMonthValue())
+                .set("approvedByAdminId", adminId)
+                .unset("rejectionReason"));
+    }
+
+    @Override
+    public BlogPost reject(String id, String reason) {
+        return setAndGet(Criteria.where("id").is(id).and("status").is(BlogStatus.PENDING), new Update()
+                .set("status", BlogStatus.REJECTED)
+                .set("rejectionReason", reason));
+    }
+
+    @Override
+    public BlogPost updateContent(BlogPost blog) {
+        return setAndGet(Criteria.where("id").is(blog.getId()), new Update()
+                .set("title", blog.getTitle())
+                .set("excerpt", blog.getExcerpt())
+                .set("contentHtml", blog.getContentHtml())
+                .set("contentJson", blog.getContentJson())
+                .set("featuredImageUrl", blog.getFeaturedImageUrl())
+                .set("featuredImageSrcset", blog.getFeaturedImageSrcset())
+                .set("tags", blog.getTags()));
+    }
+
+    @Override
+    public void markEmailSent(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(ids)), Update.update("emailSent", true),
+                    BlogPost.class);
+        }
+    }
+
+    // A targeted update bypasses auditing — updatedAt is set here, at the precision MongoDB stores
+    private BlogPost setAndGet(Criteria criteria, Update update) {
+        update.set("updatedAt", LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        return mongoTemplate.findAndModify(Query.query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), BlogPost.class);
+    }
+
+    // field = max(0, field + delta) — a missing field counts as 0
+    private static void addFloored(AggregationUpdate update, String field, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AggregationExpression floored = context -> new Document("$max", List.of(0L,
+                new Document("$add", List.of(new Document("$ifNull", List.of("$" + field, 0L)), delta))));
+        update.set(field).toValue(floored);
+    }
+
+    /**
+     * (field, _id) strictly after the cursor in the sort direction:
+     * field beyond the value, or the same value with a later _id.
+     */
+    private static Criteria keysetCriteria(BlogSort sort, BlogCursor after) {
+        boolean descending = sort.getDirection() == Sort.Direction.DESC;
+        Object id = ObjectId.isValid(after.getId()) ? new ObjectId(after.getId()) : after.getId();
+
+        Criteria beyondValue = Criteria.where(sort.getField());
+        Criteria sameValue = Criteria.where(sort.getField()).is(after.getValue());
+        if (descending) {
+            beyondValue.lt(after.getValue());
+            sameValue.and("id").lt(id);
+        } else {
+            beyondValue.gt(after.getValue());
+            sameValue.and("id").gt(id);
+        }
+
+        return new Criteria().orOperator(beyondValue, sameValue);
+    }
+
+    static Query buildQuery(BlogListingFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getStatus() != null) {
+            criteria.and("status").is(filter.getStatus());
+        }
+        if (filter.hasTag()) {
+            criteria.and("tags").is(filter.getTag());
+        }
+        if (filter.getYear() != null) {
+            criteria.and("year").is(filter.getYear());
+            if (filter.getMonth() != null) {
+                criteria.and("month").is(filter.getMonth());
+            }
+        }
+
+        Query query = new Query(criteria);
+        if (filter.hasSearch()) {
+            // Only while the embedded search engine is loading or disabled — uses the text index on title + excerpt
+            query.addCriteria(TextCriteria.forDefaultLanguage().matching(filter.getSearch()));
+        }
+        return query;
+    }
+}
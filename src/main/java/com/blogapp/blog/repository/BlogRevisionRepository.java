@@ -0,0 +1,31 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogRevision;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BlogRevisionRepository extends MongoRepository<BlogRevision, String> {
+
+    // Metadata only — content and hunks are never loaded for listings
+    @Query(value = "{ 'blogId': ?0 }", fields = "{ 'contentHtml': 0, 'contentJson': 0, 'htmlHunks': 0, 'jsonHunks': 0 }")
+    Page<BlogRevision> findSummariesByBlogId(String blogId, Pageable pageable);
+
+    Optional<BlogRevision> findFirstByBlogIdAndSnapshotTrueAndNumberLessThanEqualOrderByNumberDesc(String blogId,
+            int number);
+
+    // Between is exclusive on both ends
+    List<BlogRevision> findByBlogIdAndNumberBetweenOrderByNumberAsc(String blogId, int after, int before);
+
+    // Newest revision's number and content hash — a List so no count query is issued
+    @Query(value = "{ 'blogId': ?0 }", fields = "{ 'number': 1, 'contentHash': 1 }", sort = "{ 'number': -1 }")
+    List<BlogRevision> findLatestByBlogId(String blogId, Pageable limit);
+
+    void deleteByBlogId(String blogId);
+}
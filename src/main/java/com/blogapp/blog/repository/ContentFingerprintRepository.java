@@ -0,0 +1,25 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.ContentFingerprint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ContentFingerprintRepository extends MongoRepository<ContentFingerprint, String> {
+
+    // Candidates sharing any band — served by the multikey bands index
+    @Query(value = "{ 'bands': { '$in': ?0 } }", fields = "{ 'simhash': 1 }")
+    List<ContentFingerprint> findByBandsIn(Collection<Integer> bands, Limit limit);
+
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'simhash': 1, 'bands': 1 }")
+    List<ContentFingerprint> findHashesByIdIn(Collection<String> ids);
+
+    // Ids only — for the startup backfill
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    List<ContentFingerprint> findAllIds();
+}
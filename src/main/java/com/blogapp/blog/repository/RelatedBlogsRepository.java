@@ -0,0 +1,13 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.RelatedBlogs;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RelatedBlogsRepository extends MongoRepository<RelatedBlogs, String> {
+
+    void deleteByComputedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,242 @@
+package com.blogapp.blog.revision;
+
+import com.blogapp.admin.dto.response.RevisionResponse;
+import com.blogapp.admin.dto.response.RevisionSummaryResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogRevision;
+import com.blogapp.blog.entity.BlogRevision.Hunk;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.repository.BlogRevisionRepository;
+import com.blogapp.common.dto.PageResponse;
+import com.blogapp.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Revision history of blog edits, kept in blog_revisions.
+ *
+ * The first edit of a blog stores its previous state as a snapshot (revision 1); every edit after
+ * that stores token-level hunks against the revision before it. A full snapshot is written every
+ * {@code snapshot-every} revisions, and whenever the diff would not be meaningfully smaller, so
+ * rebuilding any version replays at most that many diffs. Current-version reads never touch this.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevisionHistory {
+
+    private final BlogRevisionRepository blogRevisionRepository;
+
+    @Value("${blog.revisions.snapshot-every:10}")
+    private int snapshotEvery;
+
+    // Edits beyond this are stored as a snapshot — also bounds the diff's time and memory
+    @Value("${blog.revisions.max-diff-edits:2000}")
+    private int maxDiffEdits;
+
+    /**
+     * Record an edit. {@code before} is the blog as it was loaded, {@code after} as it was saved.
+     * A failure here is logged rather than thrown — the edit itself has already been saved.
+     */
+    public void record(BlogPost before, BlogPost after) {
+        if (sameContent(before, after)) {
+            return;
+        }
+        try {
+            BlogRevision latest = latestRevision(after.getId());
+            if (latest == null) {
+                blogRevisionRepository.save(snapshot(before, 1));
+            }
+            int number = latest != null ? latest.getNumber() + 1 : 2;
+            // A diff is only valid against the version it was computed from — if the history missed an
+            // edit (a failed write), the latest revision's hash no longer matches and a snapshot starts over
+            boolean inSync = latest == null || Objects.equals(latest.getContentHash(), contentHash(before));
+            BlogRevision revision = inSync && (number - 1) % snapshotEvery != 0 ? diff(before, after, number) : null;
+            blogRevisionRepository.save(revision != null ? revision : snapshot(after, number));
+            log.debug("Blog {} revision {} recorded ({})", after.getId(), number,
+                    revision != null ? revision.getTokensAdded() + "+/" + revision.getTokensRemoved() + "- tokens" : "snapshot");
+        } catch (DataAccessException e) {
+            log.error("Failed to record revision for blog {}: {}", after.getId(), e.getMessage());
+        }
+    }
+
+    public PageResponse<RevisionSummaryResponse> list(String blogId, int page, int size) {
+        Page<BlogRevision> revisions = blogRevisionRepository.findSummariesByBlogId(blogId,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "number")));
+
+        List<RevisionSummaryResponse> content = revisions.getContent().stream()
+                .map(RevisionHistory::toSummaryResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.<RevisionSummaryResponse>builder()
+                .content(content)
+                .page(revisions.getNumber())
+                .size(revisions.getSize())
+                .totalElements(revisions.getTotalElements())
+                .totalPages(revisions.getTotalPages())
+                .first(revisions.isFirst())
+                .last(revisions.isLast())
+                .build();
+    }
+
+    /**
+     * Rebuild a version: the nearest snapshot at or below it, then every diff up to it, in order.
+     */
+    public RevisionResponse materialize(String blogId, int number) {
+        BlogRevision base = blogRevisionRepository
+                .findFirstByBlogIdAndSnapshotTrueAndNumberLessThanEqualOrderByNumberDesc(blogId, number)
+                .orElseThrow(() -> new ResourceNotFoundException("Revision", "number", number));
+
+        String html = base.getContentHtml();
+        String json = base.getContentJson();
+        BlogRevision target = base;
+        if (base.getNumber() < number) {
+            List<BlogRevision> diffs = blogRevisionRepository
+                    .findByBlogIdAndNumberBetweenOrderByNumberAsc(blogId, base.getNumber(), number + 1);
+            if (diffs.isEmpty() || diffs.get(diffs.size() - 1).getNumber() != number) {
+                throw new ResourceNotFoundException("Revision", "number", number);
+            }
+            for (BlogRevision diff : diffs) {
+                html = TokenDiff.apply(html, diff.getHtmlHunks());
+                json = TokenDiff.apply(json, diff.getJsonHunks());
+                target = diff;
+            }
+        }
+
+        return RevisionResponse.builder()
+                .blogId(blogId)
+                .number(number)
+                .title(target.getTitle())
+                .excerpt(target.getExcerpt())
+                .featuredImageUrl(target.getFeaturedImageUrl())
+                .tags(target.getTags())
+                .contentHtml(html)
+                .contentJson(json)
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (event.getType() == BlogLifecycleEvent.Type.DELETED) {
+            blogRevisionRepository.deleteByBlogId(event.getBlog().getId());
+        }
+    }
+
+    private BlogRevision latestRevision(String blogId) {
+        List<BlogRevision> latest = blogRevisionRepository.findLatestByBlogId(blogId, PageRequest.of(0, 1));
+        return latest.isEmpty() ? null : latest.get(0);
+    }
+
+    // Null when a snapshot is the better choice
+    private BlogRevision diff(BlogPost before, BlogPost after, int number) {
+        List<Hunk> htmlHunks = TokenDiff.diff(before.getContentHtml(), after.getContentHtml(), maxDiffEdits);
+        if (htmlHunks == null) {
+            return null;
+        }
+        List<Hunk> jsonHunks = TokenDiff.diff(before.getContentJson(), after.getContentJson(), maxDiffEdits);
+        if (jsonHunks == null) {
+            return null;
+        }
+        int inserted = TokenDiff.insertedLength(htmlHunks) + TokenDiff.insertedLength(jsonHunks);
+        if (inserted * 2 > length(after.getContentHtml()) + length(after.getContentJson())) {
+            return null; // mostly rewritten — the diff would save little
+        }
+
+        return BlogRevision.builder()
+                .blogId(after.getId())
+                .number(number)
+                .title(after.getTitle())
+                .excerpt(after.getExcerpt())
+                .featuredImageUrl(after.getFeaturedImageUrl())
+                .tags(copy(after.getTags()))
+                .htmlHunks(htmlHunks)
+                .jsonHunks(jsonHunks)
+                .tokensAdded(TokenDiff.tokensAdded(htmlHunks))
+                .tokensRemoved(TokenDiff.tokensRemoved(htmlHunks))
+                .contentLength(length(after.getContentHtml()))
+                .contentHash(contentHash(after))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static BlogRevision snapshot(BlogPost blog, int number) {
+        return BlogRevision.builder()
+                .blogId(blog.getId())
+                .number(number)
+                .snapshot(true)
+                .title(blog.getTitle())
+                .excerpt(blog.getExcerpt())
+                .featuredImageUrl(blog.getFeaturedImageUrl())
+                .tags(copy(blog.getTags()))
+                .contentHtml(blog.getContentHtml())
+                .contentJson(blog.getContentJson())
+                .contentLength(length(blog.getContentHtml()))
+                .contentHash(contentHash(blog))
+                // Revision 1 is the state before the first edit — the blog's last save time is when it was made
+                .createdAt(number == 1 && blog.getUpdatedAt() != null ? blog.getUpdatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    private static RevisionSummaryResponse toSummaryResponse(BlogRevision revision) {
+        return RevisionSummaryResponse.builder()
+                .number(revision.getNumber())
+                .snapshot(revision.isSnapshot())
+                .title(revision.getTitle())
+                .tokensAdded(revision.getTokensAdded())
+                .tokensRemoved(revision.getTokensRemoved())
+                .contentLength(revision.getContentLength())
+                .createdAt(revision.getCreatedAt())
+                .build();
+    }
+
+    private static boolean sameContent(BlogPost before, BlogPost after) {
+        return Objects.equals(before.getTitle(), after.getTitle())
+                && Objects.equals(before.getExcerpt(), after.getExcerpt())
+                && Objects.equals(before.getFeaturedImageUrl(), after.getFeaturedImageUrl())
+                && Objects.equals(before.getTags(), after.getTags())
+                && Objects.equals(before.getContentHtml(), after.getContentHtml())
+                && Objects.equals(before.getContentJson(), after.getContentJson());
+    }
+
+    // Length-prefixed, so moving text between the two fields changes the hash
+    private static String contentHash(BlogPost blog) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[] { blog.getContentHtml(), blog.getContentJson() }) {
+                byte[] bytes = part != null ? part.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(part != null ? bytes.length : -1).array());
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JVM ships SHA-256
+        }
+    }
+
+    private static List<String> copy(List<String> tags) {
+        return tags != null ? new ArrayList<>(tags) : null;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,241 @@
+package com.blogapp.blog.revision;
+
+import com.blogapp.blog.entity.BlogRevision.Hunk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-level diffs between two versions of a text (HTML or editor JSON).
+ *
+ * Text is split into tags, word runs, whitespace runs and single punctuation characters, and the
+ * shortest edit script is found with Myers' O(ND) algorithm after the common prefix and suffix are
+ * stripped — typical edits touch a few paragraphs, so D stays small. Splitting is deterministic,
+ * so hunks index into the tokens of the exact text they were computed against.
+ */
+final class TokenDiff {
+
+    private TokenDiff() {
+    }
+
+    /**
+     * Hunks turning {@code from} into {@code to}, or null when they differ by more than
+     * {@code maxEdits} token insertions/deletions (the caller stores a snapshot instead).
+     */
+    static List<Hunk> diff(String from, String to, int maxEdits) {
+        List<String> a = tokenize(from);
+        List<String> b = tokenize(to);
+
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        // Compare interned ids rather than strings in the inner loop
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = intern(a.subList(prefix, a.size() - suffix), ids);
+        int[] y = intern(b.subList(prefix, b.size() - suffix), ids);
+
+        boolean[] deleted = new boolean[x.length];
+        boolean[] inserted = new boolean[y.length];
+        if (!editScript(x, y, maxEdits, deleted, inserted)) {
+            return null;
+        }
+
+        List<Hunk> hunks = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < x.length || j < y.length) {
+            if (i < x.length && j < y.length && !deleted[i] && !inserted[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            int start = i;
+            while (i < x.length && deleted[i]) {
+                i++;
+            }
+            StringBuilder text = new StringBuilder();
+            while (j < y.length && inserted[j]) {
+                text.append(b.get(prefix + j));
+                j++;
+            }
+            Integer deletedHash = i > start ? join(a, prefix + start, prefix + i).hashCode() : null;
+            hunks.add(new Hunk(prefix + start, i - start, text.toString(), deletedHash));
+        }
+        return hunks;
+    }
+
+    /**
+     * Apply hunks produced by {@link #diff} against exactly this text. Throws when a hunk does
+     * not fit — out of range, or the tokens it deletes are not the ones it was computed against.
+     */
+    static String apply(String from, List<Hunk> hunks) {
+        if (hunks == null || hunks.isEmpty()) {
+            return from;
+        }
+        List<String> tokens = tokenize(from);
+        StringBuilder out = new StringBuilder(from != null ? from.length() : 16);
+        int position = 0;
+        for (Hunk hunk : hunks) {
+            if (hunk.getStart() < position || hunk.getStart() + hunk.getDeleted() > tokens.size()) {
+                throw new IllegalStateException("Hunk at token " + hunk.getStart() + " does not fit the base text");
+            }
+            if (hunk.getDeletedHash() != null && hunk.getDeletedHash()
+                    != join(tokens, hunk.getStart(), hunk.getStart() + hunk.getDeleted()).hashCode()) {
+                throw new IllegalStateException("Hunk at token " + hunk.getStart() + " deletes different text than it was computed against");
+            }
+            append(out, tokens, position, hunk.getStart());
+            if (hunk.getInserted() != null) {
+                out.append(hunk.getInserted());
+            }
+            position = hunk.getStart() + hunk.getDeleted();
+        }
+        append(out, tokens, position, tokens.size());
+        return out.toString();
+    }
+
+    static int tokensAdded(List<Hunk> hunks) {
+        int added = 0;
+        for (Hunk hunk : hunks) {
+            added += tokenize(hunk.getInserted()).size();
+        }
+        return added;
+    }
+
+    static int tokensRemoved(List<Hunk> hunks) {
+        int removed = 0;
+        for (Hunk hunk : hunks) {
+            removed += hunk.getDeleted();
+        }
+        return removed;
+    }
+
+    static int insertedLength(List<Hunk> hunks) {
+        int length = 0;
+        for (Hunk hunk : hunks) {
+            length += hunk.getInserted() != null ? hunk.getInserted().length() : 0;
+        }
+        return length;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int end = i + 1;
+            if (c == '<') {
+                // A whole tag, as long as it closes before the next '<'
+                int close = text.indexOf('>', i + 1);
+                int nextOpen = text.indexOf('<', i + 1);
+                if (close > 0 && (nextOpen < 0 || close < nextOpen)) {
+                    end = close + 1;
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                while (end < length && Character.isLetterOrDigit(text.charAt(end))) {
+                    end++;
+                }
+            } else if (Character.isWhitespace(c)) {
+                while (end < length && Character.isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+            }
+            tokens.add(text.substring(i, end));
+            i = end;
+        }
+        return tokens;
+    }
+
+    /*
+     * Myers' greedy forward search. v[k] is the furthest x reached on diagonal k; a copy of the
+     * live part of v is kept per step so the path can be walked back and the edits marked.
+     */
+    private static boolean editScript(int[] a, int[] b, int maxEdits, boolean[] deleted, boolean[] inserted) {
+        int n = a.length;
+        int m = b.length;
+        int max = Math.min(n + m, maxEdits);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            int[] snapshot = new int[2 * d + 1];
+            System.arraycopy(v, offset - d, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(trace, n, m, deleted, inserted);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void backtrack(List<int[]> trace, int n, int m, boolean[] deleted, boolean[] inserted) {
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] v = trace.get(d); // state before step d, indexed from -d
+            int k = x - y;
+            int previousK = k == -d || (k != d && v[k - 1 + d] < v[k + 1 + d]) ? k + 1 : k - 1;
+            int previousX = v[previousK + d];
+            int previousY = previousX - previousK;
+
+            // Snake back to the end of the edit made at this step
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+            }
+            if (x == previousX) {
+                inserted[previousY] = true;
+            } else {
+                deleted[previousX] = true;
+            }
+            x = previousX;
+            y = previousY;
+        }
+    }
+
+    private static int[] intern(List<String> tokens, Map<String, Integer> ids) {
+        int[] interned = new int[tokens.size()];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = ids.computeIfAbsent(tokens.get(i), token -> ids.size());
+        }
+        return interned;
+    }
+
+    private static String join(List<String> tokens, int from, int to) {
+        StringBuilder out = new StringBuilder();
+        append(out, tokens, from, to);
+        return out.toString();
+    }
+
+    private static void append(StringBuilder out, List<String> tokens, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out.append(tokens.get(i));
+        }
+    }
+}
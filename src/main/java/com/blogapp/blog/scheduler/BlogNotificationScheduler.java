@@ -103,9 +103,7 @@ public class BlogNotificationScheduler {
     }
 
     private void markBlogsAsEmailSent(List<BlogPost> blogs) {
-        for (BlogPost blog : blogs) {
-            blog.setEmailSent(true);
-            blogPostRepository.save(blog);
-        }
+        // Only the flag is written — saving the loaded blogs back would reset counters and enrichment
+        blogPostRepository.markEmailSent(blogs.stream().map(BlogPost::getId).toList());
     }
 }
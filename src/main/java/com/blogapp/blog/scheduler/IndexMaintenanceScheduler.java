@@ -0,0 +1,112 @@
+package com.blogapp.blog.scheduler;
+
+import com.blogapp.blog.enrich.ContentEnricher;
+import com.blogapp.blog.index.ArchiveIndex;
+import com.blogapp.blog.index.TagIndex;
+import com.blogapp.blog.index.TrendingIndex;
+import com.blogapp.blog.search.BlogSearchEngine;
+import com.blogapp.blog.search.BlogSuggester;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexMaintenanceScheduler {
+
+    private final ArchiveIndex archiveIndex;
+    private final TagIndex tagIndex;
+    private final TrendingIndex trendingIndex;
+    private final BlogSearchEngine blogSearchEngine;
+    private final BlogSuggester blogSuggester;
+    private final ContentEnricher contentEnricher;
+
+    @Value("${blog.enrichment.sweep-batch-size:200}")
+    private int enrichmentSweepBatchSize;
+
+    /**
+     * Picks up changes made by other instances and repairs the archive and tag indexes if they drifted.
+     */
+    @Scheduled(fixedDelayString = "${blog.index.drift-check-interval-ms:900000}",
+            initialDelayString = "${blog.index.drift-check-interval-ms:900000}")
+    public void verifyIndexes() {
+        try {
+            archiveIndex.verify();
+        } catch (Exception e) {
+            log.error("Archive index drift check failed: {}", e.getMessage());
+        }
+        try {
+            tagIndex.verify();
+        } catch (Exception e) {
+            log.error("Tag index drift check failed: {}", e.getMessage());
+        }
+        try {
+            if (blogSearchEngine.isReady()) {
+                blogSearchEngine.refresh();
+            }
+        } catch (Exception e) {
+            log.error("Search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the search index segment to disk when it has changed.
+     */
+    @Scheduled(fixedDelayString = "${blog.search.persist-interval-ms:300000}")
+    public void persistSearchIndex() {
+        blogSearchEngine.persist();
+    }
+
+    /**
+     * Adds the engagement seen here to the shared trending scores in MongoDB.
+     */
+    @Scheduled(fixedDelayString = "${blog.trending.persist-interval-ms:60000}")
+    public void persistTrendingScores() {
+        trendingIndex.persist();
+    }
+
+    /**
+     * Re-reads the shared trending scores, which include what other instances added.
+     */
+    @Scheduled(fixedDelayString = "${blog.trending.reload-interval-ms:300000}",
+            initialDelayString = "${blog.trending.reload-interval-ms:300000}")
+    public void reloadTrendingScores() {
+        try {
+            if (trendingIndex.isReady()) {
+                trendingIndex.reload();
+            }
+        } catch (Exception e) {
+            log.error("Trending index reload failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the suggestion index so popularity weights follow views and likes.
+     */
+    @Scheduled(fixedDelayString = "${blog.suggest.refresh-interval-ms:600000}",
+            initialDelayString = "${blog.suggest.refresh-interval-ms:600000}")
+    public void refreshSuggestions() {
+        try {
+            blogSuggester.rebuild();
+        } catch (Exception e) {
+            log.error("Suggestion index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Enriches blogs the post-save pipeline missed (queue full, lost a race, failed write) and, after
+     * an upgrade, every blog saved before enrichment existed — a batch per run.
+     */
+    @Scheduled(fixedDelayString = "${blog.enrichment.sweep-interval-ms:300000}",
+            initialDelayString = "${blog.enrichment.sweep-initial-delay-ms:30000}")
+    public void sweepEnrichment() {
+        try {
+            contentEnricher.sweep(enrichmentSweepBatchSize);
+        } catch (Exception e) {
+            log.error("Enrichment sweep failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.blogapp.blog.scheduler;
+
+import com.blogapp.blog.counter.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    /**
+     * Periodically writes buffered page views back to blog_posts.
+     */
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        viewCountBuffer.flush();
+    }
+}
@@ -0,0 +1,240 @@
+package com.blogapp.blog.search;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.common.util.HtmlSanitizer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded full-text search over published blogs (title, tags, excerpt and stripped content).
+ * Kept current from blog lifecycle events and persisted as a segment file on local disk;
+ * on startup the segment is loaded and only blogs whose updatedAt changed are re-indexed.
+ * Until it is ready the listing falls back to MongoDB $text search.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogSearchEngine {
+
+    private static final String SEGMENT_FILE = "blogs.seg";
+    private static final int LOAD_BATCH_SIZE = 200;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${blog.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.search.index-dir:./data/search-index}")
+    private String indexDir;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SearchIndex index = new SearchIndex();
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * One page of blog ids, best match first. When restrictTo is given, only those blogs can match.
+     */
+    public SearchHits search(String query, Integer year, Integer month, Set<String> restrictTo, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, year, month, restrictTo, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("Embedded search is disabled — using MongoDB text search");
+            return;
+        }
+
+        Path segment = segmentPath();
+        if (Files.exists(segment)) {
+            try {
+                SearchIndex loaded = SearchIndex.readFrom(segment);
+                replaceIndex(loaded);
+                log.info("Search segment loaded — {} blog(s)", loaded.liveDocs());
+            } catch (IOException e) {
+                log.warn("Could not read search segment {}, rebuilding: {}", segment, e.getMessage());
+            }
+        }
+
+        refresh();
+        ready = true;
+        persist();
+    }
+
+    /**
+     * Bring the index in line with blog_posts: re-index blogs whose updatedAt changed
+     * and drop blogs that are no longer published. Only changed blogs are loaded in full.
+     */
+    public void refresh() {
+        // Blogs indexed from events while the ids are streamed carry a version at or after this
+        long startedAt = System.currentTimeMillis();
+        Map<String, Long> published = new HashMap<>();
+        Query versions = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        versions.fields().include("updatedAt");
+        try (Stream<BlogPost> stream = mongoTemplate.stream(versions, BlogPost.class)) {
+            stream.forEach(blog -> published.put(blog.getId(), versionOf(blog.getUpdatedAt())));
+        }
+
+        List<String> changed = new ArrayList<>();
+        Set<String> removed;
+        lock.readLock().lock();
+        try {
+            removed = index.blogIds();
+            removed.removeAll(published.keySet());
+            published.forEach((id, version) -> {
+                if (!Objects.equals(index.versionOf(id), version)) {
+                    changed.add(id);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!removed.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                // Missing from the stream only because they were published after it started — keep them
+                removed.removeIf(id -> {
+                    Long version = index.versionOf(id);
+                    return version == null || version >= startedAt;
+                });
+                removed.forEach(index::remove);
+                dirty |= !removed.isEmpty();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        for (int from = 0; from < changed.size(); from += LOAD_BATCH_SIZE) {
+            List<String> batch = changed.subList(from, Math.min(from + LOAD_BATCH_SIZE, changed.size()));
+            Query query = Query.query(Criteria.where("id").in(batch).and("status").is(BlogStatus.PUBLISHED));
+            query.fields().include("title", "excerpt", "tags", "contentHtml", "year", "month", "updatedAt");
+            mongoTemplate.find(query, BlogPost.class).forEach(this::indexBlog);
+        }
+
+        if (!removed.isEmpty() || !changed.isEmpty()) {
+            log.info("Search index refreshed — {} re-indexed, {} removed", changed.size(), removed.size());
+        }
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isPublished()) {
+            indexBlog(event.getBlog());
+        } else if (event.wasPublished()) {
+            lock.writeLock().lock();
+            try {
+                index.remove(event.getBlog().getId());
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Write the index to disk if it changed since the last write. The segment is encoded under the
+     * read lock and written after it is released, so updates never wait for the disk.
+     */
+    @PreDestroy
+    public synchronized void persist() {
+        if (!enabled || !dirty) {
+            return;
+        }
+        byte[] segment;
+        int liveDocs;
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            segment = index.toSegment();
+            liveDocs = index.liveDocs();
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            SearchIndex.writeSegment(segmentPath(), segment);
+            log.debug("Search segment written — {} blog(s)", liveDocs);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("Failed to write search segment: {}", e.getMessage());
+        }
+    }
+
+    private void indexBlog(BlogPost blog) {
+        // Analyse outside the lock — stripping HTML is the expensive part
+        String tags = blog.getTags() != null ? String.join(" ", blog.getTags()) : "";
+        String content = HtmlSanitizer.stripAll(blog.getContentHtml());
+
+        long version = versionOf(blog.getUpdatedAt());
+        lock.writeLock().lock();
+        try {
+            Long indexed = index.versionOf(blog.getId());
+            if (indexed != null && indexed > version) {
+                return; // a refresh read this blog before the edit that was indexed from its event
+            }
+            index.index(blog.getId(), version, blog.getYear(), blog.getMonth(),
+                    blog.getTitle(), tags, blog.getExcerpt(), content);
+            if (index.needsCompaction()) {
+                index = index.compact();
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceIndex(SearchIndex replacement) {
+        lock.writeLock().lock();
+        try {
+            index = replacement;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Path segmentPath() {
+        return Paths.get(indexDir).resolve(SEGMENT_FILE);
+    }
+
+    private static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+    }
+}
@@ -0,0 +1,233 @@
+package com.blogapp.blog.search;
+
+import com.blogapp.blog.dto.response.SuggestionResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.enums.SuggestionType;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead over published titles and tags, weighted by popularity (views and likes).
+ * Titles are reachable from the start of every word, tags from their start.
+ * Kept current from blog lifecycle events; weights are refreshed by a periodic rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogSuggester {
+
+    // Title keys start at each of the first few words — "igcse physics" finds "How to Prepare for IGCSE Physics"
+    private static final int MAX_TITLE_WORD_STARTS = 8;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    private static final class State {
+        final SuggestTrie trie = new SuggestTrie();
+        final Map<String, IndexedBlog> blogs = new HashMap<>();
+        final Map<String, IndexedTag> tags = new HashMap<>();
+    }
+
+    private static final class IndexedBlog {
+        final SuggestTrie.Entry entry;
+        final Set<String> titleKeys;
+        final Set<String> tagKeys;
+
+        IndexedBlog(SuggestTrie.Entry entry, Set<String> titleKeys, Set<String> tagKeys) {
+            this.entry = entry;
+            this.titleKeys = titleKeys;
+            this.tagKeys = tagKeys;
+        }
+    }
+
+    private static final class IndexedTag {
+        final String display;
+        final Map<String, Double> weightByBlog = new HashMap<>();
+        SuggestTrie.Entry entry;
+
+        IndexedTag(String display) {
+            this.display = display;
+        }
+    }
+
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        List<SuggestTrie.Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = state.trie.top(prefix, Math.min(limit, SuggestTrie.TOP_K));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return entries.stream()
+                .map(entry -> SuggestionResponse.builder()
+                        .text(entry.text)
+                        .type(entry.slug != null ? SuggestionType.TITLE : SuggestionType.TAG)
+                        .slug(entry.slug)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        State rebuilt = new State();
+        Query query = Query.query(Criteria.where("status").is(BlogStatus.PUBLISHED));
+        query.fields().include("title", "slug", "tags", "viewsCount", "likesCount");
+        try (Stream<BlogPost> stream = mongoTemplate.stream(query, BlogPost.class)) {
+            stream.forEach(blog -> put(rebuilt, blog));
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suggestion index built — {} blog(s), {} tag(s)", rebuilt.blogs.size(), rebuilt.tags.size());
+    }
+
+    @EventListener
+    public void onBlogLifecycle(BlogLifecycleEvent event) {
+        if (!event.isPublished() && !event.wasPublished()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.isPublished()) {
+                put(state, event.getBlog());
+            } else {
+                remove(state, event.getBlog().getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void put(State state, BlogPost blog) {
+        remove(state, blog.getId());
+
+        double weight = popularity(blog);
+        SuggestTrie.Entry entry = new SuggestTrie.Entry(blog.getTitle(), blog.getSlug(), weight);
+        Set<String> titleKeys = titleKeys(blog.getTitle());
+        titleKeys.forEach(key -> state.trie.insert(key, entry));
+
+        Set<String> tagKeys = new LinkedHashSet<>();
+        if (blog.getTags() != null) {
+            for (String tag : blog.getTags()) {
+                String key = normalize(tag);
+                if (key.isEmpty() || !tagKeys.add(key)) {
+                    continue;
+                }
+                IndexedTag indexedTag = state.tags.computeIfAbsent(key, k -> new IndexedTag(tag.trim()));
+                indexedTag.weightByBlog.put(blog.getId(), weight);
+                reweigh(state, key, indexedTag);
+            }
+        }
+
+        state.blogs.put(blog.getId(), new IndexedBlog(entry, titleKeys, tagKeys));
+    }
+
+    private static void remove(State state, String blogId) {
+        IndexedBlog indexed = state.blogs.remove(blogId);
+        if (indexed == null) {
+            return;
+        }
+        indexed.titleKeys.forEach(key -> state.trie.remove(key, indexed.entry));
+        for (String key : indexed.tagKeys) {
+            IndexedTag indexedTag = state.tags.get(key);
+            if (indexedTag == null) {
+                continue;
+            }
+            indexedTag.weightByBlog.remove(blogId);
+            if (indexedTag.weightByBlog.isEmpty()) {
+                state.trie.remove(key, indexedTag.entry);
+                state.tags.remove(key);
+            } else {
+                reweigh(state, key, indexedTag);
+            }
+        }
+    }
+
+    // A tag weighs the summed popularity of its published blogs
+    private static void reweigh(State state, String key, IndexedTag indexedTag) {
+        if (indexedTag.entry != null) {
+            state.trie.remove(key, indexedTag.entry);
+        }
+        double weight = indexedTag.weightByBlog.values().stream().mapToDouble(Double::doubleValue).sum();
+        indexedTag.entry = new SuggestTrie.Entry(indexedTag.display, null, weight);
+        state.trie.insert(key, indexedTag.entry);
+    }
+
+    private static double popularity(BlogPost blog) {
+        return 1 + Math.log1p(blog.getViewsCount()) + 2 * Math.log1p(blog.getLikesCount());
+    }
+
+    private static Set<String> titleKeys(String title) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalize(title);
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        int starts = 1;
+        for (int i = normalized.indexOf(' '); i >= 0 && starts < MAX_TITLE_WORD_STARTS; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+            starts++;
+        }
+        return keys;
+    }
+
+    /**
+     * Lowercase, strip accents and punctuation, collapse whitespace.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(folded.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && out.length() > 0) {
+                    out.append(' ');
+                }
+                out.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return out.toString();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.blogapp.blog.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Append-only postings for one term in one field: (docId delta, term frequency) pairs,
+ * both varint-encoded in a single byte array. Doc ids are assigned in increasing order,
+ * so deltas stay small and an append never needs to re-sort.
+ */
+final class PostingsList {
+
+    private byte[] data;
+    private int length;
+    private int count;
+    private int lastDocId = -1;
+
+    PostingsList() {
+        this.data = new byte[8];
+    }
+
+    private PostingsList(byte[] data, int count, int lastDocId) {
+        this.data = data;
+        this.length = data.length;
+        this.count = count;
+        this.lastDocId = lastDocId;
+    }
+
+    void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Doc ids must be appended in increasing order");
+        }
+        ensureCapacity(10);
+        writeVarInt(docId - lastDocId);
+        writeVarInt(frequency);
+        lastDocId = docId;
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Decode all postings — docIds[i] and freqs[i] are filled for i &lt; size().
+     */
+    void decode(int[] docIds, int[] freqs) {
+        int pos = 0;
+        int docId = -1;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docId += delta;
+
+            int freq = 0;
+            shift = 0;
+            do {
+                b = data[pos++];
+                freq |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docIds[i] = docId;
+            freqs[i] = freq;
+        }
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(count);
+        out.writeInt(lastDocId);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingsList readFrom(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        int lastDocId = in.readInt();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new PostingsList(data, count, lastDocId);
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.blogapp.blog.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of search results — blog ids in rank order plus the total number of matches.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+
+    private final List<String> blogIds;
+    private final long total;
+}
@@ -0,0 +1,331 @@
+package com.blogapp.blog.search;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over published blogs with BM25F scoring across title, tags, excerpt and content.
+ * Not thread-safe — BlogSearchEngine guards it with a read/write lock.
+ * Updates append a new doc id and tombstone the old one; {@link #compact()} drops tombstones.
+ */
+final class SearchIndex {
+
+    enum Field {
+        TITLE(3.0f),
+        TAGS(2.5f),
+        EXCERPT(2.0f),
+        CONTENT(1.0f);
+
+        final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int MAGIC = 0x424C4753; // "BLGS"
+    private static final int FORMAT_VERSION = 1;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final Field[] FIELDS = Field.values();
+
+    private static final class Doc {
+        final String blogId;
+        final long version;
+        final Integer year;
+        final Integer month;
+        final int[] lengths;
+        boolean deleted;
+
+        Doc(String blogId, long version, Integer year, Integer month, int[] lengths) {
+            this.blogId = blogId;
+            this.version = version;
+            this.year = year;
+            this.month = month;
+            this.lengths = lengths;
+        }
+    }
+
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> docIdsByBlog = new HashMap<>();
+    private final List<Map<String, PostingsList>> postings = new ArrayList<>();
+    private final long[] totalLengths = new long[FIELDS.length];
+    private int deletedDocs;
+
+    SearchIndex() {
+        for (int f = 0; f < FIELDS.length; f++) {
+            postings.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Add or replace a blog. Field texts are indexed in {@link Field} order.
+     */
+    void index(String blogId, long version, Integer year, Integer month, String... fieldTexts) {
+        remove(blogId);
+
+        int docId = docs.size();
+        int[] lengths = new int[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String term : TextAnalyzer.analyze(fieldTexts[f])) {
+                frequencies.merge(term, 1, Integer::sum);
+                lengths[f]++;
+            }
+            Map<String, PostingsList> fieldPostings = postings.get(f);
+            frequencies.forEach((term, tf) -> fieldPostings.computeIfAbsent(term, k -> new PostingsList()).add(docId, tf));
+            totalLengths[f] += lengths[f];
+        }
+
+        docs.add(new Doc(blogId, version, year, month, lengths));
+        docIdsByBlog.put(blogId, docId);
+    }
+
+    boolean remove(String blogId) {
+        Integer docId = docIdsByBlog.remove(blogId);
+        if (docId == null) {
+            return false;
+        }
+        Doc doc = docs.get(docId);
+        doc.deleted = true;
+        deletedDocs++;
+        for (int f = 0; f < FIELDS.length; f++) {
+            totalLengths[f] -= doc.lengths[f];
+        }
+        return true;
+    }
+
+    /**
+     * Version (updatedAt millis) the blog was indexed at, or null if it is not indexed.
+     */
+    Long versionOf(String blogId) {
+        Integer docId = docIdsByBlog.get(blogId);
+        return docId != null ? docs.get(docId).version : null;
+    }
+
+    Set<String> blogIds() {
+        return new LinkedHashSet<>(docIdsByBlog.keySet());
+    }
+
+    int liveDocs() {
+        return docIdsByBlog.size();
+    }
+
+    /**
+     * One page of matches, best first. When restrictTo is given, only those blogs can match.
+     */
+    SearchHits search(String query, Integer year, Integer month, Set<String> restrictTo, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        int live = liveDocs();
+        if (terms.isEmpty() || live == 0) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        float[] avgLengths = new float[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            avgLengths[f] = Math.max(1f, (float) totalLengths[f] / live);
+        }
+
+        Map<Integer, Float> scores = new HashMap<>();
+        int[] docIds = new int[16];
+        int[] freqs = new int[16];
+        for (String term : terms) {
+            // Field-weighted, length-normalised term frequency per doc (BM25F)
+            Map<Integer, Float> weightedTf = new HashMap<>();
+            for (int f = 0; f < FIELDS.length; f++) {
+                PostingsList list = postings.get(f).get(term);
+                if (list == null) {
+                    continue;
+                }
+                if (list.size() > docIds.length) {
+                    docIds = new int[list.size()];
+                    freqs = new int[list.size()];
+                }
+                list.decode(docIds, freqs);
+                for (int i = 0; i < list.size(); i++) {
+                    Doc doc = docs.get(docIds[i]);
+                    if (doc.deleted) {
+                        continue;
+                    }
+                    float norm = 1 - B + B * doc.lengths[f] / avgLengths[f];
+                    weightedTf.merge(docIds[i], FIELDS[f].weight * freqs[i] / norm, Float::sum);
+                }
+            }
+
+            int df = weightedTf.size();
+            float idf = (float) Math.log(1 + (live - df + 0.5) / (df + 0.5));
+            weightedTf.forEach((docId, tf) -> {
+                Doc doc = docs.get(docId);
+                if (matches(doc, year, month) && (restrictTo == null || restrictTo.contains(doc.blogId))) {
+                    scores.merge(docId, idf * tf / (K1 + tf), Float::sum);
+                }
+            });
+        }
+
+        List<Map.Entry<Integer, Float>> ranked = new ArrayList<>(scores.entrySet());
+        // Highest score first; newer docs win ties
+        ranked.sort((a, b) -> {
+            int byScore = Float.compare(b.getValue(), a.getValue());
+            return byScore != 0 ? byScore : Integer.compare(b.getKey(), a.getKey());
+        });
+
+        List<String> page = new ArrayList<>();
+        for (int i = Math.max(0, offset); i < ranked.size() && page.size() < limit; i++) {
+            page.add(docs.get(ranked.get(i).getKey()).blogId);
+        }
+        return new SearchHits(page, ranked.size());
+    }
+
+    private static boolean matches(Doc doc, Integer year, Integer month) {
+        if (year == null) {
+            return true;
+        }
+        return year.equals(doc.year) && (month == null || month.equals(doc.month));
+    }
+
+    boolean needsCompaction() {
+        return deletedDocs > 64 && deletedDocs > docs.size() / 4;
+    }
+
+    /**
+     * Copy of this index without tombstones — live docs are renumbered in their original order.
+     */
+    SearchIndex compact() {
+        SearchIndex compacted = new SearchIndex();
+        int[] remap = new int[docs.size()];
+        for (int oldId = 0; oldId < docs.size(); oldId++) {
+            Doc doc = docs.get(oldId);
+            if (doc.deleted) {
+                remap[oldId] = -1;
+                continue;
+            }
+            remap[oldId] = compacted.docs.size();
+            compacted.docIdsByBlog.put(doc.blogId, compacted.docs.size());
+            compacted.docs.add(doc);
+            for (int f = 0; f < FIELDS.length; f++) {
+                compacted.totalLengths[f] += doc.lengths[f];
+            }
+        }
+
+        for (int f = 0; f < FIELDS.length; f++) {
+            Map<String, PostingsList> target = compacted.postings.get(f);
+            for (Map.Entry<String, PostingsList> entry : postings.get(f).entrySet()) {
+                PostingsList list = entry.getValue();
+                int[] docIds = new int[list.size()];
+                int[] freqs = new int[list.size()];
+                list.decode(docIds, freqs);
+
+                PostingsList rewritten = null;
+                for (int i = 0; i < docIds.length; i++) {
+                    int newId = remap[docIds[i]];
+                    if (newId >= 0) {
+                        if (rewritten == null) {
+                            rewritten = new PostingsList();
+                        }
+                        rewritten.add(newId, freqs[i]);
+                    }
+                }
+                if (rewritten != null) {
+                    target.put(entry.getKey(), rewritten);
+                }
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * The index in segment format — taken under the caller's read lock, written out by {@link #writeSegment}.
+     */
+    byte[] toSegment() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(docs.size());
+            for (Doc doc : docs) {
+                out.writeBoolean(doc.deleted);
+                out.writeUTF(doc.blogId);
+                out.writeLong(doc.version);
+                out.writeInt(doc.year != null ? doc.year : -1);
+                out.writeInt(doc.month != null ? doc.month : -1);
+                for (int length : doc.lengths) {
+                    out.writeInt(length);
+                }
+            }
+            for (Map<String, PostingsList> fieldPostings : postings) {
+                out.writeInt(fieldPostings.size());
+                for (Map.Entry<String, PostingsList> entry : fieldPostings.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Persist a segment as a single file, replaced atomically.
+     */
+    static void writeSegment(Path file, byte[] segment) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, segment);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static SearchIndex readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported search segment format: " + file);
+            }
+            SearchIndex index = new SearchIndex();
+            int docCount = in.readInt();
+            for (int docId = 0; docId < docCount; docId++) {
+                boolean deleted = in.readBoolean();
+                String blogId = in.readUTF();
+                long version = in.readLong();
+                int year = in.readInt();
+                int month = in.readInt();
+                int[] lengths = new int[FIELDS.length];
+                for (int f = 0; f < FIELDS.length; f++) {
+                    lengths[f] = in.readInt();
+                }
+
+                Doc doc = new Doc(blogId, version, year >= 0 ? year : null, month >= 0 ? month : null, lengths);
+                doc.deleted = deleted;
+                index.docs.add(doc);
+                if (deleted) {
+                    index.deletedDocs++;
+                } else {
+                    index.docIdsByBlog.put(blogId, docId);
+                    for (int f = 0; f < FIELDS.length; f++) {
+                        index.totalLengths[f] += lengths[f];
+                    }
+                }
+            }
+            for (int f = 0; f < FIELDS.length; f++) {
+                Map<String, PostingsList> fieldPostings = index.postings.get(f);
+                int terms = in.readInt();
+                for (int t = 0; t < terms; t++) {
+                    fieldPostings.put(in.readUTF(), PostingsList.readFrom(in));
+                }
+            }
+            return index;
+        }
+    }
+}
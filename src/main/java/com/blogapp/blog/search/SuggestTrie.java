@@ -0,0 +1,193 @@
+package com.blogapp.blog.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Character trie where every node caches the top-K heaviest entries of its subtree,
+ * so a prefix lookup is a walk down the prefix plus a copy of at most K entries.
+ * Not thread-safe — BlogSuggester guards it with a read/write lock.
+ */
+final class SuggestTrie {
+
+    static final int TOP_K = 10;
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingDouble((Entry e) -> e.weight).reversed()
+            .thenComparing(e -> e.text);
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final char[] NO_LABELS = new char[0];
+
+    static final class Entry {
+        final String text;
+        final String slug; // null for tag suggestions
+        final double weight;
+
+        Entry(String text, String slug, double weight) {
+            this.text = text;
+            this.slug = slug;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        Entry[] terminal = NO_ENTRIES; // entries whose key ends at this node
+        Entry[] top = NO_ENTRIES;      // heaviest entries in this subtree, sorted
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node node = new Node();
+            labels = insertAt(labels, at, c);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, at);
+            grown[at] = node;
+            System.arraycopy(children, at, grown, at + 1, children.length - at);
+            children = grown;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) {
+                return;
+            }
+            char[] fewerLabels = new char[labels.length - 1];
+            Node[] fewerChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, fewerLabels, 0, i);
+            System.arraycopy(labels, i + 1, fewerLabels, i, labels.length - i - 1);
+            System.arraycopy(children, 0, fewerChildren, 0, i);
+            System.arraycopy(children, i + 1, fewerChildren, i, children.length - i - 1);
+            labels = fewerLabels;
+            children = fewerChildren;
+        }
+
+        boolean isEmpty() {
+            return terminal.length == 0 && children.length == 0;
+        }
+    }
+
+    private final Node root = new Node();
+
+    void insert(String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].getOrAddChild(key.charAt(i));
+        }
+        Node end = path[key.length()];
+        if (contains(end.terminal, entry)) {
+            return;
+        }
+        end.terminal = append(end.terminal, entry);
+        for (Node node : path) {
+            offer(node, entry);
+        }
+    }
+
+    void remove(String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        Node end = path[key.length()];
+        if (!contains(end.terminal, entry)) {
+            return;
+        }
+        end.terminal = without(end.terminal, entry);
+
+        // Bottom-up: prune empty nodes, then rebuild the top-K of nodes that listed the entry
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (depth > 0 && node.isEmpty()) {
+                path[depth - 1].removeChild(key.charAt(depth - 1));
+                continue;
+            }
+            if (contains(node.top, entry)) {
+                recompute(node);
+            }
+        }
+    }
+
+    List<Entry> top(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        return Arrays.asList(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+    }
+
+    private static void offer(Node node, Entry entry) {
+        if (contains(node.top, entry)) {
+            return;
+        }
+        if (node.top.length < TOP_K) {
+            node.top = append(node.top, entry);
+        } else if (BY_WEIGHT.compare(entry, node.top[TOP_K - 1]) < 0) {
+            node.top = Arrays.copyOf(node.top, TOP_K);
+            node.top[TOP_K - 1] = entry;
+        } else {
+            return;
+        }
+        Arrays.sort(node.top, BY_WEIGHT);
+    }
+
+    private static void recompute(Node node) {
+        List<Entry> candidates = new ArrayList<>(Arrays.asList(node.terminal));
+        for (Node child : node.children) {
+            for (Entry entry : child.top) {
+                if (!candidates.contains(entry)) {
+                    candidates.add(entry);
+                }
+            }
+        }
+        candidates.sort(BY_WEIGHT);
+        node.top = candidates.subList(0, Math.min(TOP_K, candidates.size())).toArray(NO_ENTRIES);
+    }
+
+    private static boolean contains(Entry[] entries, Entry entry) {
+        for (Entry e : entries) {
+            if (e == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+        grown[entries.length] = entry;
+        return grown;
+    }
+
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        return Arrays.stream(entries).filter(e -> e != entry).toArray(Entry[]::new);
+    }
+
+    private static char[] insertAt(char[] array, int at, char c) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, at);
+        grown[at] = c;
+        System.arraycopy(array, at, grown, at + 1, array.length - at);
+        return grown;
+    }
+}
@@ -0,0 +1,97 @@
+package com.blogapp.blog.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Analyzer shared by indexing and querying: split on non letter/digit characters,
+ * lowercase, fold accents, drop English stopwords and apply a light suffix stemmer.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "how",
+            "if", "in", "into", "is", "it", "its", "of", "on", "or", "our", "so", "such", "that", "the",
+            "their", "then", "there", "these", "they", "this", "to", "was", "we", "what", "when", "which",
+            "will", "with", "you", "your");
+
+    private TextAnalyzer() {
+        // Utility class — prevent instantiation
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder token = new StringBuilder(16);
+        boolean nonAscii = false;
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                nonAscii |= c > 0x7F;
+            } else if (token.length() > 0) {
+                String term = normalize(token.toString(), nonAscii);
+                if (term != null) {
+                    terms.add(term);
+                }
+                token.setLength(0);
+                nonAscii = false;
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String token, boolean nonAscii) {
+        if (nonAscii) {
+            token = Normalizer.normalize(token, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        }
+        if (STOPWORDS.contains(token) || (token.length() < 2 && !Character.isDigit(token.charAt(0)))) {
+            return null;
+        }
+        return stem(token);
+    }
+
+    /**
+     * Light English stemmer — conflates plurals and the common -ing/-ed/-ly forms.
+     */
+    static String stem(String term) {
+        int len = term.length();
+        if (len <= 3 || !Character.isLetter(term.charAt(len - 1))) {
+            return term;
+        }
+        if (term.endsWith("ies") && len > 4) {
+            return term.substring(0, len - 3) + "y";
+        }
+        if (term.endsWith("sses")) {
+            return term.substring(0, len - 2);
+        }
+        if (term.endsWith("ing") && len > 5) {
+            return undouble(term.substring(0, len - 3));
+        }
+        if (term.endsWith("ed") && len > 4) {
+            return undouble(term.substring(0, len - 2));
+        }
+        if (term.endsWith("ly") && len > 4) {
+            return term.substring(0, len - 2);
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+            return term.substring(0, len - 1);
+        }
+        return term;
+    }
+
+    // "running" → "runn" → "run"
+    private static String undouble(String stem) {
+        int len = stem.length();
+        if (len > 2 && stem.charAt(len - 1) == stem.charAt(len - 2)
+                && "bdfgmnprt".indexOf(stem.charAt(len - 1)) >= 0) {
+            return stem.substring(0, len - 1);
+        }
+        return stem;
+    }
+}
@@ -1,26 +1,62 @@
 package com.blogapp.blog.service;
 
+import com.blogapp.blog.cache.BlogVersion;
 import com.blogapp.blog.dto.request.CreateBlogRequest;
 import com.blogapp.blog.dto.response.ArchiveResponse;
+import com.blogapp.blog.dto.response.BlogBatchResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.dto.response.BlogPageResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.dto.response.RelatedBlogResponse;
+import com.blogapp.blog.dto.response.SuggestionResponse;
+import com.blogapp.blog.dto.response.TagCountResponse;
 import com.blogapp.blog.entity.BlogPost;
 import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.common.dto.CursorPageResponse;
 import com.blogapp.common.dto.PageResponse;
 
 import java.util.List;
 
 public interface BlogService {
 
-    PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, Integer year, Integer month,
+    PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, String tag, Integer year, Integer month,
             String sort, int page, int size);
 
+    CursorPageResponse<BlogSummaryResponse> getPublishedBlogsByCursor(String search, String tag, Integer year, Integer month,
+            String sort, String cursor, int size);
+
     BlogDetailResponse getBlogBySlug(String slug);
 
+    /**
+     * Published blogs by slug, in request order — one query for whatever the detail cache misses.
+     */
+    BlogBatchResponse getBlogsBySlugs(List<String> slugs);
+
+    /**
+     * Blogs of any status by ID, in request order — admin only.
+     */
+    BlogBatchResponse getBlogsByIds(List<String> ids);
+
+    BlogPageResponse getBlogPage(String slug, String visitorKey, int commentsSize);
+
+    List<RelatedBlogResponse> getRelatedBlogs(String slug);
+
     BlogDetailResponse getBlogById(String id);
 
+    BlogVersion getBlogVersion(String slug);
+
+    String getListingEtag();
+
+    String getArchiveEtag();
+
+    String getTagsEtag();
+
     List<ArchiveResponse> getArchive();
 
+    List<TagCountResponse> getTags();
+
+    List<SuggestionResponse> suggest(String query, int limit);
+
     BlogPost createBlog(CreateBlogRequest request, String authorName, String authorEmail, String authorMobile);
 
     BlogPost approveBlog(String id, String adminId);
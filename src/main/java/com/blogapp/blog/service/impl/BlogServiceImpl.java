@@ -1,34 +1,66 @@
 package com.blogapp.blog.service.impl;
 
+import com.blogapp.blog.cache.BlogCountCache;
+import com.blogapp.blog.cache.BlogDetailCache;
+import com.blogapp.blog.cache.BlogVersion;
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.counter.ViewCountBuffer;
+import com.blogapp.blog.duplicate.NearDuplicateDetector;
 import com.blogapp.blog.dto.request.CreateBlogRequest;
 import com.blogapp.blog.dto.response.ArchiveResponse;
+import com.blogapp.blog.dto.response.BlogBatchResponse;
 import com.blogapp.blog.dto.response.BlogDetailResponse;
+import com.blogapp.blog.dto.response.BlogPageResponse;
 import com.blogapp.blog.dto.response.BlogSummaryResponse;
+import com.blogapp.blog.dto.response.NearDuplicateResponse;
+import com.blogapp.blog.dto.response.RelatedBlogResponse;
+import com.blogapp.blog.dto.response.SuggestionResponse;
+import com.blogapp.blog.dto.response.TagCountResponse;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogSort;
 import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.index.ArchiveIndex;
+import com.blogapp.blog.index.TagIndex;
+import com.blogapp.blog.index.TrendingIndex;
 import com.blogapp.blog.mapper.BlogMapper;
+import com.blogapp.blog.repository.BlogCursor;
+import com.blogapp.blog.repository.BlogListingFilter;
 import com.blogapp.blog.repository.BlogPostRepository;
+import com.blogapp.blog.repository.RelatedBlogsRepository;
+import com.blogapp.blog.revision.RevisionHistory;
+import com.blogapp.blog.search.BlogSearchEngine;
+import com.blogapp.blog.search.BlogSuggester;
+import com.blogapp.blog.search.SearchHits;
 import com.blogapp.blog.service.BlogService;
+import com.blogapp.comment.dto.response.CommentResponse;
 import com.blogapp.comment.service.CommentService;
+import com.blogapp.common.dto.CursorPageResponse;
 import com.blogapp.common.dto.PageResponse;
 import com.blogapp.common.exception.BadRequestException;
 import com.blogapp.common.exception.ResourceNotFoundException;
 import com.blogapp.common.util.HtmlSanitizer;
 import com.blogapp.common.util.SlugUtil;
+import com.blogapp.image.service.ImageService;
+import com.blogapp.reaction.dto.response.ReactionResponse;
+import com.blogapp.reaction.enums.ReactionType;
+import com.blogapp.reaction.service.ReactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,30 +69,61 @@ import java.util.stream.Collectors;
 public class BlogServiceImpl implements BlogService {
 
     private final BlogPostRepository blogPostRepository;
+    private final RelatedBlogsRepository relatedBlogsRepository;
     private final BlogMapper blogMapper;
-    private final MongoTemplate mongoTemplate;
     private final CommentService commentService;
+    private final ReactionService reactionService;
+    private final ImageService imageService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final BlogDetailCache blogDetailCache;
+    private final BlogCountCache blogCountCache;
+    private final BlogVersionTracker blogVersionTracker;
+    private final ArchiveIndex archiveIndex;
+    private final TagIndex tagIndex;
+    private final TrendingIndex trendingIndex;
+    private final BlogSearchEngine blogSearchEngine;
+    private final BlogSuggester blogSuggester;
+    private final RevisionHistory revisionHistory;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor blogPageExecutor;
+
+    @Value("${blog.pagination.max-size:50}")
+    private int maxPageSize;
+
+    @Value("${blog.batch.max-size:100}")
+    private int maxBatchSize;
 
     @Override
-    public PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, Integer year, Integer month,
+    public PageResponse<BlogSummaryResponse> getPublishedBlogs(String search, String tag, Integer year, Integer month,
             String sort, int page, int size) {
-        Sort sortOrder = resolveSort(sort);
-        Pageable pageable = PageRequest.of(page, size, sortOrder);
-        Page<BlogPost> blogPage;
+        BlogSort blogSort = BlogSort.from(sort);
+        Pageable pageable = PageRequest.of(page, size, blogSort.toSort());
+
+        BlogListingFilter filter = BlogListingFilter.builder()
+                .status(BlogStatus.PUBLISHED)
+                .search(search)
+                .tag(tag)
+                .year(year)
+                .month(month)
+                .build();
 
-        if (search != null && !search.isBlank()) {
-            if (year != null && month != null) {
-                blogPage = blogPostRepository.searchByTextAndYearMonth(BlogStatus.PUBLISHED, year, month, search,
-                        pageable);
-            } else {
-                blogPage = blogPostRepository.searchByText(BlogStatus.PUBLISHED, search, pageable);
-            }
-        } else if (year != null && month != null) {
-            blogPage = blogPostRepository.findByStatusAndYearAndMonth(BlogStatus.PUBLISHED, year, month, pageable);
-        } else if (year != null) {
-            blogPage = blogPostRepository.findByStatusAndYear(BlogStatus.PUBLISHED, year, pageable);
+        Page<BlogPost> blogPage;
+        if (filter.hasSearch() && searchEngineCanServe(filter)) {
+            // Ranked by the embedded search engine; Mongo only resolves the page's ids
+            SearchHits hits = blogSearchEngine.search(search, year, month, searchScope(filter),
+                    (int) pageable.getOffset(), size);
+            blogPage = new PageImpl<>(blogPostRepository.findPublishedSummariesByIds(hits.getBlogIds()),
+                    pageable, hits.getTotal());
+        } else if (!filter.hasSearch() && blogSort.isRanked() && trendingIndex.isReady()) {
+            // Ranked in memory; Mongo only resolves the filter (if any) and the page's ids
+            SearchHits hits = trendingIndex.rank(rankingScope(filter), (int) pageable.getOffset(), size);
+            blogPage = new PageImpl<>(blogPostRepository.findPublishedSummariesByIds(hits.getBlogIds()),
+                    pageable, hits.getTotal());
         } else {
-            blogPage = blogPostRepository.findByStatus(BlogStatus.PUBLISHED, pageable);
+            // Summary projection — content fields are never loaded for listings
+            blogPage = blogPostRepository.findSummaries(filter, pageable,
+                    () -> blogCountCache.get(filter, () -> blogPostRepository.countMatching(filter)));
         }
 
         List<BlogSummaryResponse> content = blogPage.getContent().stream()
@@ -78,8 +141,140 @@ public class BlogServiceImpl implements BlogService {
                 .build();
     }
 
+    @Override
+    public CursorPageResponse<BlogSummaryResponse> getPublishedBlogsByCursor(String search, String tag, Integer year,
+            Integer month, String sort, String cursor, int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        int limit = Math.min(size, maxPageSize);
+        BlogSort blogSort = BlogSort.from(sort);
+        BlogCursor after = (cursor != null && !cursor.isBlank()) ? BlogCursor.decode(cursor) : null;
+
+        BlogListingFilter filter = BlogListingFilter.builder()
+                .status(BlogStatus.PUBLISHED)
+                .search(search)
+                .tag(tag)
+                .year(year)
+                .month(month)
+                .build();
+
+        List<BlogPost> blogs;
+        boolean hasNext;
+        String nextCursor = null;
+
+        if (filter.hasSearch() && searchEngineCanServe(filter)) {
+            // Ranked results have no keyset — the cursor carries an offset into the in-memory ranking
+            if (after != null && !after.isRelevance()) {
+                throw new BadRequestException("Cursor was not issued for a search listing");
+            }
+            int offset = after != null ? after.getOffset() : 0;
+            SearchHits hits = blogSearchEngine.search(search, year, month, searchScope(filter), offset, limit);
+            blogs = blogPostRepository.findPublishedSummariesByIds(hits.getBlogIds());
+            hasNext = offset + limit < hits.getTotal();
+            if (hasNext) {
+                nextCursor = BlogCursor.atRelevanceOffset(offset + limit).encode();
+            }
+        } else if (!filter.hasSearch() && blogSort.isRanked() && trendingIndex.isReady()) {
+            // Ranked in memory — offset cursor, like search results
+            if (after != null && (after.getSort() != blogSort || !after.isOffset())) {
+                throw new BadRequestException("Cursor was not issued for sort '" + blogSort.name().toLowerCase() + "'");
+            }
+            int offset = after != null ? after.getOffset() : 0;
+            SearchHits hits = trendingIndex.rank(rankingScope(filter), offset, limit);
+            blogs = blogPostRepository.findPublishedSummariesByIds(hits.getBlogIds());
+            hasNext = offset + limit < hits.getTotal();
+            if (hasNext) {
+                nextCursor = BlogCursor.atOffset(blogSort, offset + limit).encode();
+            }
+        } else {
+            if (after != null && (after.getSort() != blogSort || after.isOffset())) {
+                throw new BadRequestException("Cursor was not issued for sort '" + blogSort.name().toLowerCase() + "'");
+            }
+
+            // Fetch one extra row to learn whether another page exists — no count query
+            blogs = blogPostRepository.findSummariesAfter(filter, blogSort, after, limit + 1);
+            hasNext = blogs.size() > limit;
+            if (hasNext) {
+                blogs = blogs.subList(0, limit);
+                nextCursor = BlogCursor.after(blogs.get(blogs.size() - 1), blogSort).encode();
+            }
+        }
+
+        List<BlogSummaryResponse> content = blogs.stream()
+                .map(blogMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+
+        return CursorPageResponse.<BlogSummaryResponse>builder()
+                .content(content)
+                .size(limit)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public BlogDetailResponse getBlogBySlug(String slug) {
+        return blogDetailCache.get(slug, this::loadPublishedBlog);
+    }
+
+    @Override
+    public BlogPageResponse getBlogPage(String slug, String visitorKey, int commentsSize) {
+        if (commentsSize < 1) {
+            throw new BadRequestException("Comments page size must be at least 1");
+        }
+        // One read of the blog (usually a cache hit); the rest only needs its id
+        BlogDetailResponse blog = getBlogBySlug(slug);
+
+        CompletableFuture<ReactionType> visitorReaction = visitorKey != null && !visitorKey.isBlank()
+                ? CompletableFuture.supplyAsync(() -> reactionService.getVisitorReaction(blog.getId(), visitorKey),
+                        blogPageExecutor)
+                : CompletableFuture.completedFuture(null);
+        // The cached detail may predate reactions made on another instance — read the counters fresh
+        CompletableFuture<Optional<BlogPost>> engagement = CompletableFuture.supplyAsync(
+                () -> blogPostRepository.findEngagementById(blog.getId()), blogPageExecutor);
+        CompletableFuture<PageResponse<CommentResponse>> comments = CompletableFuture.supplyAsync(
+                () -> commentService.getCommentsByBlogId(blog.getId(), 0, Math.min(commentsSize, maxPageSize)),
+                blogPageExecutor);
+
+        incrementViewCount(blog.getId());
+
+        Optional<BlogPost> counts = join(engagement);
+        return BlogPageResponse.builder()
+                .blog(blog)
+                .reaction(ReactionResponse.builder()
+                        .blogId(blog.getId())
+                        .likesCount(counts.map(BlogPost::getLikesCount).orElse(blog.getLikesCount()))
+                        .dislikesCount(counts.map(BlogPost::getDislikesCount).orElse(blog.getDislikesCount()))
+                        .userReaction(join(visitorReaction))
+                        .build())
+                .comments(join(comments))
+                .build();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Surface the original exception so GlobalExceptionHandler maps it as usual
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<RelatedBlogResponse> getRelatedBlogs(String slug) {
+        // Precomputed by RelatedPostsEngine — one lookup by slug
+        return relatedBlogsRepository.findById(slug)
+                .map(related -> related.getNeighbours().stream()
+                        .map(blogMapper::toRelatedResponse)
+                        .collect(Collectors.toList()))
+                .orElseGet(List::of);
+    }
+
+    private BlogDetailResponse loadPublishedBlog(String slug) {
         BlogPost blog = blogPostRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "slug", slug));
 
@@ -98,43 +293,96 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public List<ArchiveResponse> getArchive() {
-        Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(Criteria.where("status").is(BlogStatus.PUBLISHED.name())),
-                Aggregation.group("year", "month").count().as("count"),
-                Aggregation.sort(Sort.Direction.DESC, "_id.year", "_id.month"));
-
-        AggregationResults<org.bson.Document> results = mongoTemplate.aggregate(
-                aggregation, "blog_posts", org.bson.Document.class);
-
-        Map<Integer, List<ArchiveResponse.MonthCount>> yearMap = new TreeMap<>(Comparator.reverseOrder());
-
-        for (org.bson.Document doc : results.getMappedResults()) {
-            org.bson.Document idDoc = doc.get("_id", org.bson.Document.class);
-            if (idDoc == null)
-                continue;
-
-            Integer year = idDoc.getInteger("year");
-            Integer month = idDoc.getInteger("month");
-            long count = doc.getInteger("count", 0);
-
-            if (year != null && month != null) {
-                yearMap.computeIfAbsent(year, k -> new ArrayList<>())
-                        .add(ArchiveResponse.MonthCount.builder()
-                                .month(month)
-                                .count(count)
-                                .build());
+    public BlogBatchResponse getBlogsBySlugs(List<String> slugs) {
+        Set<String> keys = batchKeys(slugs);
+        // Cache hits are served from memory; all misses are loaded with a single $in query
+        Map<String, BlogDetailResponse> found = blogDetailCache.getAll(keys, misses ->
+                blogPostRepository.findBySlugInAndStatus(new ArrayList<>(misses), BlogStatus.PUBLISHED).stream()
+                        .collect(Collectors.toMap(BlogPost::getSlug, blogMapper::toDetailResponse)));
+        return toBatchResponse(keys, found);
+    }
+
+    @Override
+    public BlogBatchResponse getBlogsByIds(List<String> ids) {
+        Set<String> keys = batchKeys(ids);
+        Map<String, BlogDetailResponse> found = new HashMap<>();
+        blogPostRepository.findAllById(keys)
+                .forEach(blog -> found.put(blog.getId(), blogMapper.toDetailResponse(blog)));
+        return toBatchResponse(keys, found);
+    }
+
+    // Request order, duplicates collapsed
+    private Set<String> batchKeys(List<String> keys) {
+        Set<String> unique = new LinkedHashSet<>(keys);
+        if (unique.size() > maxBatchSize) {
+            throw new BadRequestException("At most " + maxBatchSize + " blogs can be fetched in one batch");
+        }
+        return unique;
+    }
+
+    private static BlogBatchResponse toBatchResponse(Set<String> keys, Map<String, BlogDetailResponse> found) {
+        List<BlogDetailResponse> blogs = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            BlogDetailResponse blog = found.get(key);
+            if (blog != null) {
+                blogs.add(blog);
+            } else {
+                missing.add(key);
             }
         }
+        return BlogBatchResponse.builder()
+                .blogs(blogs)
+                .missing(missing)
+                .build();
+    }
 
-        return yearMap.entrySet().stream()
-                .map(entry -> ArchiveResponse.builder()
-                        .year(entry.getKey())
-                        .months(entry.getValue().stream()
-                                .sorted(Comparator.comparingInt(ArchiveResponse.MonthCount::getMonth).reversed())
-                                .collect(Collectors.toList()))
-                        .build())
-                .collect(Collectors.toList());
+    @Override
+    public BlogVersion getBlogVersion(String slug) {
+        BlogDetailResponse cached = blogDetailCache.getIfPresent(slug);
+        if (cached != null) {
+            return BlogVersion.of(cached);
+        }
+
+        return blogPostRepository.findVersionBySlug(slug)
+                .filter(b -> b.getStatus() == BlogStatus.PUBLISHED)
+                .map(BlogVersion::of)
+                .orElseThrow(() -> new ResourceNotFoundException("Blog", "slug", slug));
+    }
+
+    @Override
+    public String getListingEtag() {
+        return blogVersionTracker.getListingEtag();
+    }
+
+    @Override
+    public String getArchiveEtag() {
+        return blogVersionTracker.getArchiveEtag();
+    }
+
+    @Override
+    public String getTagsEtag() {
+        return tagIndex.getEtag();
+    }
+
+    @Override
+    public List<ArchiveResponse> getArchive() {
+        // Materialised year/month counts — maintained on publish/unpublish
+        return archiveIndex.getArchive();
+    }
+
+    @Override
+    public List<TagCountResponse> getTags() {
+        // Counts maintained on publish/unpublish and tag edits
+        return tagIndex.getTags();
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        return blogSuggester.suggest(query, limit);
     }
 
     @Override
@@ -146,92 +394,109 @@ public class BlogServiceImpl implements BlogService {
         blog.setStatus(BlogStatus.PENDING);
         blog.setSubmittedAt(LocalDateTime.now());
 
-        // Ensure unique slug
+        // Ensure unique slug — one query for every slug already taken by this base
         String baseSlug = SlugUtil.generateSlug(request.getTitle());
-        String slug = baseSlug;
-        int counter = 1;
-        while (blogPostRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter++;
+        if (baseSlug.isEmpty()) {
+            baseSlug = SlugUtil.FALLBACK_SLUG;
         }
+        String slug = SlugUtil.nextFreeSlug(baseSlug, blogPostRepository.findSlugsWithBase(baseSlug));
         blog.setSlug(slug);
 
         log.info("Creating blog post with slug: {} by author: {}", slug, authorEmail);
-        return blogPostRepository.save(blog);
+        BlogPost saved = blogPostRepository.insert(blog);
+        publishEvent(BlogLifecycleEvent.Type.CREATED, saved, null);
+        return saved;
     }
 
     @Override
     public BlogPost approveBlog(String id, String adminId) {
-        BlogPost blog = blogPostRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
-
-        if (blog.getStatus() != BlogStatus.PENDING) {
-            throw new BadRequestException("Only PENDING blogs can be approved. Current status: " + blog.getStatus());
+        // Matched on status PENDING — counters and enrichment are never written back from a stale copy
+        BlogPost saved = blogPostRepository.publish(id, adminId, LocalDateTime.now());
+        if (saved == null) {
+            throw notPending(id, "approved");
         }
 
-        blog.setStatus(BlogStatus.PUBLISHED);
-        blog.setPublishedAt(LocalDateTime.now());
-        blog.setApprovedByAdminId(adminId);
-        blog.setYear(blog.getPublishedAt().getYear());
-        blog.setMonth(blog.getPublishedAt().getMonthValue());
-        blog.setRejectionReason(null);
-
         log.info("Blog approved: {} by admin: {}", id, adminId);
-        return blogPostRepository.save(blog);
+        publishEvent(BlogLifecycleEvent.Type.PUBLISHED, saved, BlogStatus.PENDING);
+        return saved;
     }
 
     @Override
     public BlogPost rejectBlog(String id, String reason) {
-        BlogPost blog = blogPostRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
-
-        if (blog.getStatus() != BlogStatus.PENDING) {
-            throw new BadRequestException("Only PENDING blogs can be rejected. Current status: " + blog.getStatus());
+        BlogPost saved = blogPostRepository.reject(id, reason);
+        if (saved == null) {
+            throw notPending(id, "rejected");
         }
 
-        blog.setStatus(BlogStatus.REJECTED);
-        blog.setRejectionReason(reason);
-
         log.info("Blog rejected: {} — reason: {}", id, reason);
-        return blogPostRepository.save(blog);
+        publishEvent(BlogLifecycleEvent.Type.REJECTED, saved, BlogStatus.PENDING);
+        return saved;
+    }
+
+    // The conditional transition matched nothing — tell a missing blog from one in another status
+    private RuntimeException notPending(String id, String action) {
+        BlogPost blog = blogPostRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        return new BadRequestException("Only PENDING blogs can be " + action + ". Current status: " + blog.getStatus());
     }
 
     @Override
     public BlogPost updateBlog(String id, CreateBlogRequest request) {
         BlogPost blog = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
+        BlogPost before = blog.toBuilder().build();
 
         blog.setTitle(request.getTitle());
         blog.setExcerpt(request.getExcerpt());
-        blog.setContentHtml(HtmlSanitizer.sanitize(request.getContentHtml()));
+        HtmlSanitizer.SanitizedHtml content = HtmlSanitizer.clean(request.getContentHtml(), imageService::rewriteImages);
+        blog.setContentHtml(content.getHtml());
         blog.setContentJson(request.getContentJson());
         blog.setFeaturedImageUrl(request.getFeaturedImageUrl());
+        blog.setFeaturedImageSrcset(imageService.srcsetFor(request.getFeaturedImageUrl()));
         blog.setTags(request.getTags());
 
         log.info("Blog updated: {}", id);
-        return blogPostRepository.save(blog);
+        log.debug("Blog {} content sanitized — {}", id, content);
+        // Only the edited fields are written — counters and enrichment stay as they are in MongoDB
+        BlogPost saved = blogPostRepository.updateContent(blog);
+        if (saved == null) {
+            throw new ResourceNotFoundException("Blog", "id", id); // deleted in the meantime
+        }
+        revisionHistory.record(before, saved);
+        publishEvent(BlogLifecycleEvent.Type.UPDATED, saved, saved.getStatus());
+        return saved;
     }
 
     @Override
     public PageResponse<BlogDetailResponse> getAdminBlogs(String status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "submittedAt"));
-        Page<BlogPost> blogPage;
 
+        BlogStatus blogStatus = null;
         if (status != null && !status.isBlank()) {
             try {
-                BlogStatus blogStatus = BlogStatus.valueOf(status.toUpperCase());
-                blogPage = blogPostRepository.findByStatus(blogStatus, pageable);
+                blogStatus = BlogStatus.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new BadRequestException("Invalid status: " + status
                         + ". Valid values: DRAFT, PENDING, PUBLISHED, REJECTED");
             }
-        } else {
-            blogPage = blogPostRepository.findAll(pageable);
         }
+        BlogListingFilter filter = BlogListingFilter.builder().status(blogStatus).build();
+
+        // The unfiltered total is read from collection metadata instead of counting every document
+        boolean approximate = filter.isEmpty();
+        Page<BlogPost> blogPage = blogPostRepository.findByFilter(filter, pageable, approximate
+                ? blogPostRepository::estimatedCount
+                : () -> blogCountCache.get(filter, () -> blogPostRepository.countMatching(filter)));
 
         List<BlogDetailResponse> content = blogPage.getContent().stream()
                 .map(blogMapper::toDetailResponse)
                 .collect(Collectors.toList());
 
+        // Band lookups for the whole page at once — a few queries however many blogs are stored
+        Map<String, List<NearDuplicateResponse>> duplicates = nearDuplicateDetector.findNearDuplicates(
+                content.stream().map(BlogDetailResponse::getId).collect(Collectors.toList()));
+        content.forEach(blog -> blog.setNearDuplicates(duplicates.get(blog.getId())));
+
         return PageResponse.<BlogDetailResponse>builder()
                 .content(content)
                 .page(blogPage.getNumber())
@@ -240,29 +505,36 @@ public class BlogServiceImpl implements BlogService {
                 .totalPages(blogPage.getTotalPages())
                 .first(blogPage.isFirst())
                 .last(blogPage.isLast())
+                .approximate(approximate)
                 .build();
     }
 
     @Override
     public void incrementViewCount(String id) {
-        BlogPost blog = blogPostRepository.findById(id).orElse(null);
-        if (blog != null) {
-            blog.setViewsCount(blog.getViewsCount() + 1);
-            blogPostRepository.save(blog);
-        }
+        // Buffered in memory and flushed as a batched $inc by ViewCountFlushScheduler
+        viewCountBuffer.increment(id);
     }
 
-    private Sort resolveSort(String sort) {
-        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("recent")) {
-            return Sort.by(Sort.Direction.DESC, "publishedAt");
-        } else if (sort.equalsIgnoreCase("popular")) {
-            return Sort.by(Sort.Direction.DESC, "likesCount");
-        } else if (sort.equalsIgnoreCase("oldest")) {
-            return Sort.by(Sort.Direction.ASC, "publishedAt");
-        } else if (sort.equalsIgnoreCase("most_commented")) {
-            return Sort.by(Sort.Direction.DESC, "commentsCount");
+    // A tag filter is resolved from the tag index, so it needs that loaded as well
+    private boolean searchEngineCanServe(BlogListingFilter filter) {
+        return blogSearchEngine.isReady() && (!filter.hasTag() || tagIndex.isReady());
+    }
+
+    /**
+     * Blogs a search is restricted to — null without a tag filter (year and month are matched by the index).
+     */
+    private Set<String> searchScope(BlogListingFilter filter) {
+        return filter.hasTag() ? tagIndex.blogsWithTag(filter.getTag()) : null;
+    }
+
+    /**
+     * Blogs an in-memory ranking is restricted to — null when the filter is status only.
+     */
+    private Set<String> rankingScope(BlogListingFilter filter) {
+        if (filter.getYear() == null && !filter.hasTag()) {
+            return null;
         }
-        return Sort.by(Sort.Direction.DESC, "publishedAt");
+        return blogPostRepository.findIds(filter);
     }
 
     @Override
@@ -271,5 +543,10 @@ public class BlogServiceImpl implements BlogService {
                 .orElseThrow(() -> new ResourceNotFoundException("Blog ", "id: ", id));
         commentService.deleteCommentsByBlogId(id);
         blogPostRepository.delete(blog);
+        publishEvent(BlogLifecycleEvent.Type.DELETED, blog, blog.getStatus());
+    }
+
+    private void publishEvent(BlogLifecycleEvent.Type type, BlogPost blog, BlogStatus previousStatus) {
+        eventPublisher.publishEvent(new BlogLifecycleEvent(type, blog, previousStatus));
     }
 }
@@ -7,11 +7,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface CommentRepository extends MongoRepository<BlogComment, String> {
+public interface CommentRepository extends MongoRepository<BlogComment, String>, CommentRepositoryCustom {
 
     Page<BlogComment> findByBlogIdAndStatus(String blogId, CommentStatus status, Pageable pageable);
 
@@ -22,6 +21,4 @@ public interface CommentRepository extends MongoRepository<BlogComment, String>
     long countByBlogIdAndStatus(String blogId, CommentStatus status);
 
     List<BlogComment> findByBlogId(String blogId);
-
-    long countByIpHashAndCreatedAtAfter(String ipHash, LocalDateTime after);
 }
@@ -0,0 +1,20 @@
+package com.blogapp.comment.repository;
+
+import com.blogapp.comment.entity.BlogComment;
+import com.blogapp.comment.enums.CommentStatus;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * Move the comment from {@code from} to {@code to} in one findAndModify. Returns the comment
+     * as it was before the change, or null when it doesn't exist or isn't in {@code from} — of
+     * several concurrent callers only one sees the transition.
+     */
+    BlogComment changeStatus(String id, CommentStatus from, CommentStatus to);
+
+    /**
+     * Remove the comment if it is in the given status (any status when null). Returns the removed
+     * comment, or null when nothing matched.
+     */
+    BlogComment removeWithStatus(String id, CommentStatus status);
+}
@@ -0,0 +1,30 @@
+package com.blogapp.comment.repository;
+
+import com.blogapp.comment.entity.BlogComment;
+import com.blogapp.comment.enums.CommentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public BlogComment changeStatus(String id, CommentStatus from, CommentStatus to) {
+        Query query = Query.query(Criteria.where("id").is(id).and("status").is(from));
+        return mongoTemplate.findAndModify(query, Update.update("status", to), BlogComment.class);
+    }
+
+    @Override
+    public BlogComment removeWithStatus(String id, CommentStatus status) {
+        Criteria criteria = Criteria.where("id").is(id);
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+        return mongoTemplate.findAndRemove(Query.query(criteria), BlogComment.class);
+    }
+}
@@ -1,6 +1,9 @@
 package com.blogapp.comment.service.impl;
 
+import com.blogapp.blog.cache.BlogDetailCache;
+import com.blogapp.blog.cache.BlogVersionTracker;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogEngagementEvent;
 import com.blogapp.blog.repository.BlogPostRepository;
 import com.blogapp.comment.dto.request.CreateCommentRequest;
 import com.blogapp.comment.dto.response.CommentResponse;
@@ -11,11 +14,11 @@ import com.blogapp.comment.repository.CommentRepository;
 import com.blogapp.comment.service.CommentService;
 import com.blogapp.common.dto.PageResponse;
 import com.blogapp.common.exception.BadRequestException;
-import com.blogapp.common.exception.RateLimitException;
 import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.common.ratelimit.RateLimiterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +27,6 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,9 +39,10 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final BlogPostRepository blogPostRepository;
     private final CommentMapper commentMapper;
-
-    @Value("${blog.rate-limit.comments-per-minute:5}")
-    private int commentsPerMinute;
+    private final BlogVersionTracker blogVersionTracker;
+    private final BlogDetailCache blogDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     @Override
     public PageResponse<CommentResponse> getCommentsByBlogId(String blogId, int page, int size) {
@@ -64,9 +67,10 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public CommentResponse addComment(String blogId, CreateCommentRequest request, String ipAddress) {
-        // Verify blog exists and is published
-        BlogPost blog = blogPostRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
+        // Verify blog exists — an _id index lookup, the document itself is not loaded
+        if (!blogPostRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog", "id", blogId);
+        }
 
         // Honeypot check — if the hidden "website" field is filled, it's a bot
         if (request.getWebsite() != null && !request.getWebsite().isBlank()) {
@@ -74,20 +78,15 @@ public class CommentServiceImpl implements CommentService {
             throw new BadRequestException("Spam detected");
         }
 
-        // Rate limit check
+        // Rate limit check — in memory, per IP (requests without one share a key)
         String ipHash = hashIp(ipAddress);
-        long recentComments = commentRepository.countByIpHashAndCreatedAtAfter(
-                ipHash, LocalDateTime.now().minusMinutes(1));
-        if (recentComments >= commentsPerMinute) {
-            throw new RateLimitException("Too many comments. Please wait before posting again.");
-        }
+        rateLimiterRegistry.comments().acquire(String.valueOf(ipHash),
+                "Too many comments. Please wait before posting again.");
 
         BlogComment comment = commentMapper.toEntity(blogId, request, ipHash);
         comment = commentRepository.save(comment);
 
-        // Increment comment count on blog
-        blog.setCommentsCount(blog.getCommentsCount() + 1);
-        blogPostRepository.save(blog);
+        adjustCommentsCount(blogId, 1);
 
         log.info("Comment added to blog {} by {}", blogId, request.getName());
         return commentMapper.toResponse(comment);
@@ -95,17 +94,13 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void hideComment(String commentId) {
-        BlogComment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", commentId));
-
-        comment.setStatus(CommentStatus.HIDDEN);
-        commentRepository.save(comment);
-
-        // Decrement blog comment count
-        BlogPost blog = blogPostRepository.findById(comment.getBlogId()).orElse(null);
-        if (blog != null) {
-            blog.setCommentsCount(Math.max(0, blog.getCommentsCount() - 1));
-            blogPostRepository.save(blog);
+        // Conditional VISIBLE → HIDDEN — of two concurrent hides only the one that flips it decrements
+        BlogComment hidden = commentRepository.changeStatus(commentId, CommentStatus.VISIBLE, CommentStatus.HIDDEN);
+        if (hidden != null) {
+            adjustCommentsCount(hidden.getBlogId(), -1);
+        } else if (commentRepository.changeStatus(commentId, CommentStatus.PENDING, CommentStatus.HIDDEN) == null
+                && !commentRepository.existsById(commentId)) {
+            throw new ResourceNotFoundException("Comment", "id", commentId);
         }
 
         log.info("Comment hidden: {}", commentId);
@@ -113,18 +108,12 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void deleteComment(String commentId) {
-        BlogComment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", commentId));
-
-        commentRepository.delete(comment);
-
-        // Decrement blog comment count
-        if (comment.getStatus() == CommentStatus.VISIBLE) {
-            BlogPost blog = blogPostRepository.findById(comment.getBlogId()).orElse(null);
-            if (blog != null) {
-                blog.setCommentsCount(Math.max(0, blog.getCommentsCount() - 1));
-                blogPostRepository.save(blog);
-            }
+        // Only the call that removes a visible comment decrements the count
+        BlogComment removed = commentRepository.removeWithStatus(commentId, CommentStatus.VISIBLE);
+        if (removed != null) {
+            adjustCommentsCount(removed.getBlogId(), -1);
+        } else if (commentRepository.removeWithStatus(commentId, null) == null) {
+            throw new ResourceNotFoundException("Comment", "id", commentId);
         }
 
         log.info("Comment deleted: {}", commentId);
@@ -150,6 +139,19 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 
+    // Server-side $inc floored at zero — concurrent comments can't overwrite each other's count
+    private void adjustCommentsCount(String blogId, long delta) {
+        BlogPost blog = blogPostRepository.adjustEngagementCounts(blogId, 0, 0, delta);
+        if (blog == null) {
+            return; // blog deleted in the meantime
+        }
+        // Keep the cached body and move only its counters — the ETag follows them, and the encoded
+        // payload is re-encoded from the patched detail on its next request
+        blogDetailCache.updateCounts(blog);
+        blogVersionTracker.listingChanged();
+        eventPublisher.publishEvent(new BlogEngagementEvent(blogId, BlogEngagementEvent.Signal.COMMENT, delta));
+    }
+
     private String hashIp(String ip) {
         if (ip == null)
             return null;
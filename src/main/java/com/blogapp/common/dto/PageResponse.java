@@ -20,4 +20,7 @@ public class PageResponse<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+
+    // totalElements/totalPages come from a collection estimate rather than an exact count
+    private boolean approximate;
 }
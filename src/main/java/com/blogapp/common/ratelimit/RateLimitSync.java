@@ -0,0 +1,92 @@
+package com.blogapp.common.ratelimit;
+
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shares rate-limit counts between instances through rate_limit_windows. Each run pushes the hits
+ * counted here since the last run as one bulk of upserted $inc, then reads back the totals of every
+ * key active here so the limiters see other instances' hits. Decisions stay in memory; a key can
+ * overshoot its limit by what other instances allowed within one sync interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "blog.rate-limit.sync.enabled", havingValue = "true")
+public class RateLimitSync {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final MongoTemplate mongoTemplate;
+
+    @Scheduled(fixedDelayString = "${blog.rate-limit.sync.interval-ms:2000}")
+    public void sync() {
+        for (SlidingWindowRateLimiter limiter : rateLimiterRegistry.all()) {
+            try {
+                sync(limiter);
+            } catch (DataAccessException e) {
+                // The limiter keeps deciding on local counts alone until the store is back
+                log.warn("Rate limit sync failed for {}: {}", limiter.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void sync(SlidingWindowRateLimiter limiter) {
+        long windowStart = limiter.windowStart(System.currentTimeMillis());
+        Map<String, Integer> unshared = limiter.unshared(windowStart);
+        if (unshared.isEmpty()) {
+            return;
+        }
+        String prefix = limiter.getName() + ":" + windowStart + ":";
+        // Kept through the next window, whose estimate still weighs this one
+        Date expiresAt = new Date(windowStart + 2 * limiter.getWindowMillis());
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RateLimitWindow.class);
+        // In bulk order — a write error reports the index of the failed upsert
+        List<String> keys = new ArrayList<>();
+        Map<String, Integer> pushed = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : unshared.entrySet()) {
+            if (entry.getValue() > 0) {
+                bulkOps.upsert(Query.query(Criteria.where("id").is(prefix + entry.getKey())),
+                        new Update().inc("count", entry.getValue()).setOnInsert("expiresAt", expiresAt));
+                keys.add(entry.getKey());
+                pushed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!keys.isEmpty()) {
+            // Hits only count as shared once their $inc is written — failed ones go out with the next run
+            try {
+                BulkWriteResult result = bulkOps.execute();
+                log.debug("Rate limit sync {}: {} key(s) pushed ({} new)", limiter.getName(), keys.size(),
+                        result.getUpserts().size());
+            } catch (BulkOperationException e) {
+                e.getErrors().forEach(error -> pushed.remove(keys.get(error.getIndex())));
+                limiter.markShared(windowStart, pushed);
+                throw e;
+            }
+            limiter.markShared(windowStart, pushed);
+        }
+
+        List<String> ids = new ArrayList<>(unshared.size());
+        unshared.keySet().forEach(key -> ids.add(prefix + key));
+        for (RateLimitWindow window : mongoTemplate.find(Query.query(Criteria.where("id").in(ids)), RateLimitWindow.class)) {
+            limiter.applySharedTotal(window.getId().substring(prefix.length()), windowStart, window.getCount());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.blogapp.common.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Hits for one limiter key in one window, summed across instances — only written when
+ * {@code blog.rate-limit.sync.enabled} is set. Documents expire shortly after their window ends.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "rate_limit_windows")
+public class RateLimitWindow {
+
+    // limiter:windowStart:key
+    @Id
+    private String id;
+
+    private long count;
+
+    @Indexed(expireAfter = "0s")
+    private Date expiresAt;
+}
@@ -0,0 +1,26 @@
+package com.blogapp.common.ratelimit;
+
+import com.blogapp.common.exception.RateLimitException;
+
+/**
+ * Limits how often one key (visitor, IP hash, …) may do something. Implementations decide in
+ * memory — no database round trip on the request path.
+ */
+public interface RateLimiter {
+
+    String getName();
+
+    /**
+     * Count one request for the key if it is still within the limit. Rejected requests are not counted.
+     */
+    boolean tryAcquire(String key);
+
+    /**
+     * {@link #tryAcquire}, throwing a RateLimitException (429) with the given message when over the limit.
+     */
+    default void acquire(String key, String message) {
+        if (!tryAcquire(key)) {
+            throw new RateLimitException(message);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.blogapp.common.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The application's rate limiters, built from {@code blog.rate-limit.*}.
+ */
+@Component
+public class RateLimiterRegistry {
+
+    private final SlidingWindowRateLimiter comments;
+    private final SlidingWindowRateLimiter reactions;
+
+    public RateLimiterRegistry(MeterRegistry meterRegistry,
+            @Value("${blog.rate-limit.comments-per-minute:5}") int commentsPerMinute,
+            @Value("${blog.rate-limit.reactions-per-minute:10}") int reactionsPerMinute,
+            @Value("${blog.rate-limit.max-keys:100000}") long maxKeys) {
+        this.comments = new SlidingWindowRateLimiter("comments", commentsPerMinute, Duration.ofMinutes(1), maxKeys,
+                meterRegistry);
+        this.reactions = new SlidingWindowRateLimiter("reactions", reactionsPerMinute, Duration.ofMinutes(1), maxKeys,
+                meterRegistry);
+    }
+
+    /**
+     * Comments per IP hash.
+     */
+    public RateLimiter comments() {
+        return comments;
+    }
+
+    /**
+     * Reaction toggles per visitor key.
+     */
+    public RateLimiter reactions() {
+        return reactions;
+    }
+
+    Collection<SlidingWindowRateLimiter> all() {
+        return List.of(comments, reactions);
+    }
+}
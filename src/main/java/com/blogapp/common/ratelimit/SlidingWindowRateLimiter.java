@@ -0,0 +1,159 @@
+package com.blogapp.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sliding-window counter: per key, hits in the current fixed window plus the previous window's
+ * hits weighted by how much of it still overlaps the sliding window. A window start and five
+ * small counters per key, O(1) per request, and within a few percent of an exact sliding log.
+ *
+ * Windows are aligned to the epoch, so every instance agrees on where they start. Keys live in a
+ * bounded Caffeine cache (lock-striped internally; a key's window is updated under its own lock)
+ * and are evicted once idle for two windows — by then they would count as zero anyway.
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+    private final String name;
+    private final int limit;
+    private final long windowMillis;
+    private final Cache<String, Window> windows;
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public SlidingWindowRateLimiter(String name, int limit, Duration window, long maxKeys, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, windows, "rateLimit." + name);
+        this.allowed = Counter.builder("blog.rate_limit.requests")
+                .tag("limiter", name).tag("outcome", "allowed").register(meterRegistry);
+        this.rejected = Counter.builder("blog.rate_limit.requests")
+                .tag("limiter", name).tag("outcome", "rejected").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean tryAcquire(String key) {
+        long now = System.currentTimeMillis();
+        Window window = windows.get(key, k -> new Window());
+        boolean permitted;
+        synchronized (window) {
+            window.roll(windowStart(now), windowMillis);
+            permitted = window.estimate(now, windowMillis) < limit;
+            if (permitted) {
+                window.current++;
+            }
+        }
+        (permitted ? allowed : rejected).increment();
+        return permitted;
+    }
+
+    long getWindowMillis() {
+        return windowMillis;
+    }
+
+    long windowStart(long millis) {
+        return millis - millis % windowMillis;
+    }
+
+    /**
+     * Hits in the given window not yet shared with other instances, by key. Nothing is marked —
+     * call {@link #markShared} with what was actually written. Keys active in the window with
+     * nothing new map to 0, so their shared totals still get refreshed.
+     */
+    Map<String, Integer> unshared(long windowStart) {
+        Map<String, Integer> unshared = new HashMap<>();
+        windows.asMap().forEach((key, window) -> {
+            synchronized (window) {
+                if (window.start == windowStart && window.current > 0) {
+                    unshared.put(key, window.current - window.shared);
+                }
+            }
+        });
+        return unshared;
+    }
+
+    /**
+     * Record hits of the window as written to the shared store. Hits counted since {@link #unshared}
+     * stay unshared; a window that has rolled over meanwhile is left alone.
+     */
+    void markShared(long windowStart, Map<String, Integer> written) {
+        written.forEach((key, hits) -> {
+            Window window = windows.getIfPresent(key);
+            if (window == null) {
+                return;
+            }
+            synchronized (window) {
+                if (window.start == windowStart) {
+                    window.shared = Math.min(window.current, window.shared + hits);
+                }
+            }
+        });
+    }
+
+    /**
+     * Total hits for the key in the window across all instances, as last read from the shared store.
+     */
+    void applySharedTotal(String key, long windowStart, long total) {
+        Window window = windows.getIfPresent(key);
+        if (window == null) {
+            return;
+        }
+        synchronized (window) {
+            if (window.start == windowStart) {
+                window.others = (int) Math.max(0, total - window.shared);
+            }
+        }
+    }
+
+    /*
+     * Hits counted here (current) and on other instances (others) for the window starting at start,
+     * plus the same for the window before it. Guarded by its own monitor.
+     */
+    private static final class Window {
+
+        private long start;
+        private int current;
+        private int others;
+        private int previous;
+        private int previousOthers;
+        // Of current, how many have been written to the shared store
+        private int shared;
+
+        void roll(long windowStart, long windowMillis) {
+            if (windowStart == start) {
+                return;
+            }
+            boolean adjacent = windowStart - start == windowMillis;
+            // Hits not shared before the roll stay local — at most one sync interval's worth
+            previous = adjacent ? current : 0;
+            previousOthers = adjacent ? others : 0;
+            current = 0;
+            others = 0;
+            shared = 0;
+            start = windowStart;
+        }
+
+        double estimate(long now, long windowMillis) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            return (previous + previousOthers) * previousWeight + current + others;
+        }
+    }
+}
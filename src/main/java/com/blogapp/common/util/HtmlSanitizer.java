@@ -1,35 +1,92 @@
 package com.blogapp.common.util;
 
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Safelist;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public final class HtmlSanitizer {
 
+    /*
+     * Built once and never handed out — jsoup only reads a Safelist while cleaning,
+     * so the shared Cleaner is safe to use from any thread.
+     * Allows: headings, bold/italic, lists, links, quotes, images, code blocks.
+     */
+    private static final Cleaner BLOG_CLEANER = new Cleaner(Safelist.relaxed()
+            .addTags("h1", "h2", "h3", "h4", "h5", "h6", "pre", "code", "blockquote", "hr")
+            .addAttributes("a", "href", "title", "target", "rel")
+            .addAttributes("img", "src", "alt", "title", "width", "height")
+            .addAttributes("code", "class")
+            .addAttributes("pre", "class")
+            .addAttributes(":all", "style")
+            .addProtocols("a", "href", "http", "https", "mailto")
+            .addProtocols("img", "src", "http", "https"));
+
+    private static final Cleaner TEXT_CLEANER = new Cleaner(Safelist.none());
+
+    // Used when a heading's text yields no slug (e.g. it is all CJK or emoji)
+    private static final String FALLBACK_ANCHOR = "section";
+
+    // Attributes that carry nothing when empty (an empty alt still marks an image as decorative)
+    private static final String[] DROP_WHEN_EMPTY = { "class", "style", "title", "rel", "target" };
+
     private HtmlSanitizer() {
         // Utility class — prevent instantiation
     }
 
     /**
      * Sanitize HTML content to prevent XSS while allowing safe blog formatting
-     * tags.
-     * Allows: headings, bold/italic, lists, links, quotes, images, code blocks.
+     * tags. The result is minified — see {@link #clean(String)}.
      */
     public static String sanitize(String html) {
+        return clean(html).getHtml();
+    }
+
+    /**
+     * Sanitize, minify and normalise in one parse:
+     * whitespace runs outside &lt;pre&gt; collapse to a single space and are dropped at block edges, attribute values are trimmed (empty ones removed) and links opening
+     * a new tab get rel="noopener noreferrer". h1–h4 get an id slugged from their text (deduplicated with -1, -2, …)
+     * so tables of contents can link to them. Returns the HTML along with size and element counts of the output.
+     */
+    public static SanitizedHtml clean(String html) {
+        return clean(html, null);
+    }
+
+    /**
+     * {@link #clean(String)}, handing every surviving &lt;img&gt; to the rewriter before serialising —
+     * attributes it adds are not subject to the safelist, so it must only add values it trusts.
+     */
+    public static SanitizedHtml clean(String html, Consumer<List<Element>> imageRewriter) {
         if (html == null || html.isBlank()) {
-            return "";
+            return SanitizedHtml.EMPTY;
         }
 
-        Safelist safelist = Safelist.relaxed()
-                .addTags("h1", "h2", "h3", "h4", "h5", "h6", "pre", "code", "blockquote", "hr")
-                .addAttributes("a", "href", "title", "target", "rel")
-                .addAttributes("img", "src", "alt", "title", "width", "height")
-                .addAttributes("code", "class")
-                .addAttributes("pre", "class")
-                .addAttributes(":all", "style")
-                .addProtocols("a", "href", "http", "https", "mailto")
-                .addProtocols("img", "src", "http", "https");
+        Document clean = BLOG_CLEANER.clean(Jsoup.parseBodyFragment(html));
+        clean.outputSettings().prettyPrint(false);
 
-        return Jsoup.clean(html, safelist);
+        Minifier minifier = new Minifier();
+        NodeTraversor.filter(minifier, clean.body());
+        minifier.removeCollected();
+        assignHeadingIds(minifier.headings);
+        if (imageRewriter != null && !minifier.images.isEmpty()) {
+            imageRewriter.accept(minifier.images);
+        }
+
+        String output = clean.body().html();
+        return new SanitizedHtml(output, html.length(), output.length(), minifier.elements,
+                minifier.images.size(), minifier.links);
     }
 
     /**
@@ -39,6 +96,245 @@ public final class HtmlSanitizer {
         if (html == null || html.isBlank()) {
             return "";
         }
-        return Jsoup.clean(html, Safelist.none());
+        Document clean = TEXT_CLEANER.clean(Jsoup.parseBodyFragment(html));
+        return clean.body().html();
+    }
+
+    /**
+     * Sanitized HTML plus what the pass saw — lengths are in chars.
+     */
+    public static final class SanitizedHtml {
+
+        static final SanitizedHtml EMPTY = new SanitizedHtml("", 0, 0, 0, 0, 0);
+
+        private final String html;
+        private final int inputLength;
+        private final int outputLength;
+        private final int elementCount;
+        private final int imageCount;
+        private final int linkCount;
+
+        private SanitizedHtml(String html, int inputLength, int outputLength, int elementCount,
+                int imageCount, int linkCount) {
+            this.html = html;
+            this.inputLength = inputLength;
+            this.outputLength = outputLength;
+            this.elementCount = elementCount;
+            this.imageCount = imageCount;
+            this.linkCount = linkCount;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        public int getInputLength() {
+            return inputLength;
+        }
+
+        public int getOutputLength() {
+            return outputLength;
+        }
+
+        public int getElementCount() {
+            return elementCount;
+        }
+
+        public int getImageCount() {
+            return imageCount;
+        }
+
+        public int getLinkCount() {
+            return linkCount;
+        }
+
+        @Override
+        public String toString() {
+            return inputLength + " → " + outputLength + " chars, " + elementCount + " element(s)";
+        }
+    }
+
+    /**
+     * Single walk over the cleaned tree — normalises attributes, collapses whitespace and counts.
+     * Text nodes left empty are collected and removed afterwards so the walk never sees a mutated sibling list.
+     */
+    private static final class Minifier implements NodeFilter {
+
+        private final List<TextNode> blank = new ArrayList<>();
+        private int preformatted;
+        private int elements;
+        private final List<Element> images = new ArrayList<>();
+        private final List<Element> headings = new ArrayList<>();
+        private int links;
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (node instanceof Element element) {
+                if (depth == 0) {
+                    return FilterResult.CONTINUE; // <body>
+                }
+                elements++;
+                switch (element.normalName()) {
+                    case "img" -> images.add(element);
+                    case "a" -> links++;
+                    case "pre" -> preformatted++;
+                    case "h1", "h2", "h3", "h4" -> headings.add(element);
+                    default -> { }
+                }
+                normaliseAttributes(element);
+            } else if (node instanceof TextNode text && preformatted == 0) {
+                String original = text.getWholeText();
+                String minified = trimAtBlockEdges(text, collapseWhitespace(original));
+                if (minified.isEmpty()) {
+                    blank.add(text);
+                } else if (!minified.equals(original)) {
+                    text.text(minified);
+                }
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (node instanceof Element element && element.normalName().equals("pre")) {
+                preformatted--;
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        void removeCollected() {
+            blank.forEach(Node::remove);
+        }
+
+        private static void normaliseAttributes(Element element) {
+            if (element.attributesSize() == 0) {
+                return;
+            }
+            for (Attribute attribute : element.attributes()) {
+                String value = attribute.getValue();
+                String normalised = attribute.getKey().equals("style")
+                        ? normaliseStyle(value)
+                        : value.trim();
+                if (!normalised.equals(value)) {
+                    attribute.setValue(normalised);
+                }
+            }
+            for (String key : DROP_WHEN_EMPTY) {
+                if (element.hasAttr(key) && element.attr(key).isEmpty()) {
+                    element.removeAttr(key);
+                }
+            }
+            if (element.normalName().equals("a") && element.attr("target").equalsIgnoreCase("_blank")) {
+                element.attr("rel", "noopener noreferrer");
+            }
+        }
+
+        // "color : red ;  font-weight:bold;" → "color: red; font-weight:bold"
+        private static String normaliseStyle(String style) {
+            String collapsed = collapseWhitespace(style).trim();
+            int end = collapsed.length();
+            while (end > 0 && (collapsed.charAt(end - 1) == ';' || collapsed.charAt(end - 1) == ' ')) {
+                end--;
+            }
+            return collapsed.substring(0, end).replace(" ;", ";").replace(" :", ":");
+        }
+
+        /*
+         * A space right after the start of a block (or a <br>) or right before its end never renders —
+         * "<li> one </li>" shows exactly like "<li>one</li>". Inside inline parents it may, so it stays.
+         */
+        private static String trimAtBlockEdges(TextNode text, String collapsed) {
+            if (collapsed.isEmpty()) {
+                return collapsed;
+            }
+            boolean blockParent = text.parent() instanceof Element parent && parent.isBlock();
+            Node previous = skipBlank(text.previousSibling(), true);
+            Node next = skipBlank(text.nextSibling(), false);
+
+            int start = 0;
+            int end = collapsed.length();
+            if (collapsed.charAt(0) == ' '
+                    && (previous == null ? blockParent : isBlock(previous) || isBreak(previous))) {
+                start = 1;
+            }
+            if (end > start && collapsed.charAt(end - 1) == ' '
+                    && (next == null ? blockParent : isBlock(next))) {
+                end--;
+            }
+            return collapsed.substring(start, end);
+        }
+
+        // Neighbouring blank text (left behind by removed tags) doesn't count as content
+        private static Node skipBlank(Node sibling, boolean backwards) {
+            while (sibling instanceof TextNode text && text.isBlank()) {
+                sibling = backwards ? sibling.previousSibling() : sibling.nextSibling();
+            }
+            return sibling;
+        }
+
+        private static boolean isBreak(Node node) {
+            return node instanceof Element element && element.normalName().equals("br");
+        }
+
+        private static boolean isBlock(Node node) {
+            return node instanceof Element element && element.isBlock();
+        }
+    }
+
+    /*
+     * The safelist strips any id the author wrote, so every id here is ours. Assigned after the walk —
+     * by then the heading's text has been minified. Same text always yields the same id, so
+     * re-saving a blog keeps its anchors.
+     */
+    private static void assignHeadingIds(List<Element> headings) {
+        if (headings.isEmpty()) {
+            return;
+        }
+        Set<String> used = new HashSet<>();
+        for (Element heading : headings) {
+            String base = SlugUtil.generateSlug(heading.text());
+            String id = SlugUtil.nextFreeSlug(base.isEmpty() ? FALLBACK_ANCHOR : base, used);
+            used.add(id);
+            heading.attr("id", id);
+        }
+    }
+
+    private static String collapseWhitespace(String text) {
+        if (!needsCollapsing(text)) {
+            return text;
+        }
+        StringBuilder out = new StringBuilder(text.length());
+        boolean inSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                if (!inSpace) {
+                    out.append(' ');
+                }
+                inSpace = true;
+            } else {
+                out.append(c);
+                inSpace = false;
+            }
+        }
+        return out.toString();
+    }
+
+    // Most text nodes are already minimal — avoid copying them
+    private static boolean needsCollapsing(String text) {
+        boolean previousSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean space = isWhitespace(c);
+            if (space && (previousSpace || c != ' ')) {
+                return true;
+            }
+            previousSpace = space;
+        }
+        return false;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
     }
 }
@@ -1,42 +1,139 @@
 package com.blogapp.common.util;
 
 import java.text.Normalizer;
-import java.util.Locale;
-import java.util.regex.Pattern;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 public final class SlugUtil {
 
-    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
-    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
-    private static final Pattern MULTIPLE_DASHES = Pattern.compile("-{2,}");
+    // Used when nothing in the input maps to [a-z0-9] (e.g. a title written entirely in CJK)
+    public static final String FALLBACK_SLUG = "post";
+
+    // Code points below this are looked up in TRANSLITERATION; everything above is a separator
+    private static final int TABLE_SIZE = 0x1F00;
+
+    // The apostrophe editors substitute for ' — dropped like it
+    private static final char RIGHT_SINGLE_QUOTE = '\u2019';
+
+    /*
+     * Lower-case ASCII replacement per (lower-cased) char, null when the char is a separator,
+     * "" when it is dropped. Covers Latin-1, Latin Extended A/B and Additional (Vietnamese),
+     * Greek and Cyrillic.
+     */
+    private static final String[] TRANSLITERATION = new String[TABLE_SIZE];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            TRANSLITERATION[c] = String.valueOf(c);
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            TRANSLITERATION[c] = String.valueOf(c);
+        }
+        // Apostrophes join words ("don't" → "dont") rather than splitting them
+        TRANSLITERATION['\''] = "";
+        TRANSLITERATION['`'] = "";
+        TRANSLITERATION['\u02BC'] = ""; // modifier letter apostrophe
+
+        // Accented Latin: whatever a canonical decomposition reduces to a single ASCII letter
+        for (int c = 0x00C0; c < 0x0250; c++) {
+            mapDecomposed((char) c);
+        }
+        for (int c = 0x1E00; c < TABLE_SIZE; c++) {
+            mapDecomposed((char) c);
+        }
+        // Latin letters that don't decompose
+        map("ß", "ss", "æ", "ae", "ø", "o", "œ", "oe", "þ", "th", "ð", "d", "đ", "d", "ħ", "h", "ı", "i",
+                "ł", "l", "ŀ", "l", "ŋ", "ng", "ŧ", "t", "ſ", "s", "ƀ", "b", "ƒ", "f", "ƙ", "k", "ƚ", "l", "ƶ", "z");
+
+        map("α", "a", "β", "v", "γ", "g", "δ", "d", "ε", "e", "ζ", "z", "η", "i", "θ", "th", "ι", "i",
+                "κ", "k", "λ", "l", "μ", "m", "ν", "n", "ξ", "x", "ο", "o", "π", "p", "ρ", "r", "σ", "s",
+                "ς", "s", "τ", "t", "υ", "y", "φ", "f", "χ", "ch", "ψ", "ps", "ω", "o",
+                "ά", "a", "έ", "e", "ή", "i", "ί", "i", "ό", "o", "ύ", "y", "ώ", "o", "ϊ", "i", "ϋ", "y",
+                "ΐ", "i", "ΰ", "y");
+
+        map("а", "a", "б", "b", "в", "v", "г", "g", "д", "d", "е", "e", "ё", "yo", "ж", "zh", "з", "z",
+                "и", "i", "й", "y", "к", "k", "л", "l", "м", "m", "н", "n", "о", "o", "п", "p", "р", "r",
+                "с", "s", "т", "t", "у", "u", "ф", "f", "х", "kh", "ц", "ts", "ч", "ch", "ш", "sh",
+                "щ", "shch", "ъ", "", "ы", "y", "ь", "", "э", "e", "ю", "yu", "я", "ya",
+                "є", "ye", "і", "i", "ї", "yi", "ґ", "g", "ў", "u", "ђ", "dj", "ј", "j", "љ", "lj", "њ", "nj",
+                "ћ", "c", "џ", "dz", "ѓ", "g", "ќ", "k", "ѕ", "dz");
+    }
 
     private SlugUtil() {
         // Utility class — prevent instantiation
     }
 
     /**
-     * Generate a URL-friendly slug from the given input text.
+     * Generate a URL-friendly slug from the given input text in a single pass.
+     * Letters from Latin, Greek and Cyrillic scripts are transliterated to ASCII;
+     * any other run of characters becomes a single dash.
      * Example: "How to Prepare for IGCSE Physics!" →
-     * "how-to-prepare-for-igcse-physics"
+     * "how-to-prepare-for-igcse-physics", "Привет, мир" → "privet-mir"
      */
     public static String generateSlug(String input) {
         if (input == null || input.isBlank()) {
             return "";
         }
-        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
-        String slug = WHITESPACE.matcher(normalized).replaceAll("-");
-        slug = NON_LATIN.matcher(slug).replaceAll("");
-        slug = MULTIPLE_DASHES.matcher(slug).replaceAll("-");
-        slug = slug.toLowerCase(Locale.ENGLISH);
-        slug = slug.replaceAll("^-|-$", ""); // trim leading/trailing dashes
-        return slug;
+        StringBuilder slug = new StringBuilder(input.length());
+        boolean pendingDash = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            String replacement = transliterate(c);
+            if (replacement == null) {
+                pendingDash = slug.length() > 0;
+            } else if (!replacement.isEmpty()) {
+                if (pendingDash) {
+                    slug.append('-');
+                    pendingDash = false;
+                }
+                slug.append(replacement);
+            }
+        }
+        return slug.toString();
     }
 
     /**
-     * Generate a unique slug by appending a timestamp suffix.
+     * The first of base, base-1, base-2, … not among the taken slugs.
      */
-    public static String generateUniqueSlug(String input) {
-        String base = generateSlug(input);
-        return base + "-" + System.currentTimeMillis();
+    public static String nextFreeSlug(String base, Collection<String> taken) {
+        if (!taken.contains(base)) {
+            return base;
+        }
+        Set<String> used = taken instanceof Set<String> set ? set : new HashSet<>(taken);
+        int suffix = 1;
+        while (used.contains(base + "-" + suffix)) {
+            suffix++;
+        }
+        return base + "-" + suffix;
+    }
+
+    private static String transliterate(char c) {
+        if (c < 0x80) {
+            // ASCII fast path — upper case folds onto the lower-case entries
+            return TRANSLITERATION[c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c];
+        }
+        char lower = Character.toLowerCase(c);
+        if (lower >= TABLE_SIZE) {
+            return lower == RIGHT_SINGLE_QUOTE ? "" : null;
+        }
+        return TRANSLITERATION[lower];
+    }
+
+    private static void mapDecomposed(char c) {
+        if (Character.isUpperCase(c)) {
+            return; // looked up through toLowerCase
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        char base = Character.toLowerCase(decomposed.charAt(0));
+        if (base >= 'a' && base <= 'z') {
+            TRANSLITERATION[c] = String.valueOf(base);
+        }
+    }
+
+    private static void map(String... pairs) {
+        for (int i = 0; i < pairs.length; i += 2) {
+            TRANSLITERATION[pairs[i].charAt(0)] = pairs[i + 1];
+        }
     }
 }
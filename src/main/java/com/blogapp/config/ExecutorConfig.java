@@ -0,0 +1,67 @@
+package com.blogapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool for the independent lookups behind the composite blog page.
+     * When it is saturated the request thread runs the work itself instead of queueing without limit.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor blogPageExecutor(
+            @Value("${blog.page.executor.core-size:8}") int coreSize,
+            @Value("${blog.page.executor.max-size:16}") int maxSize,
+            @Value("${blog.page.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("blog-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Small pool for image decoding and resizing — each task can hold a full-size bitmap in memory.
+     * Uploads that don't fit in the queue are rejected instead of run on the request thread.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${blog.images.executor.size:2}") int size,
+            @Value("${blog.images.executor.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Single worker for post-save content enrichment. Saves never wait on it; when the queue is full
+     * the blog is skipped and the enrichment sweep catches it up later.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor enrichmentExecutor(
+            @Value("${blog.enrichment.executor.size:1}") int size,
+            @Value("${blog.enrichment.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("enrich-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
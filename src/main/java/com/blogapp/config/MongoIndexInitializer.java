@@ -0,0 +1,81 @@
+package com.blogapp.config;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.BlogRevision;
+import com.blogapp.blog.entity.ContentFingerprint;
+import com.blogapp.common.ratelimit.RateLimitWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes the query paths depend on. Automatic index creation from the entity
+ * annotations is off, so every index a query relies on is ensured here — an existing index
+ * with the same definition is left as it is. Most only serve performance; a unique index
+ * that guards data is required, and startup fails without it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer implements CommandLineRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(String... args) {
+        // Tag-filtered listings: equality on status and tags, newest first
+        ensureIndex(BlogPost.class, new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("tags", Sort.Direction.ASC)
+                .on("publishedAt", Sort.Direction.DESC)
+                .named("status_tags_publishedAt"));
+
+        // Latest revision lookups and history paging; unique so two edits can't claim one number —
+        // without it concurrent edits can write two revisions with the same number and corrupt the history
+        ensureRequiredIndex(BlogRevision.class, new Index()
+                .on("blogId", Sort.Direction.ASC)
+                .on("number", Sort.Direction.DESC)
+                .unique()
+                .named("blogId_number"));
+
+        // Multikey — near-duplicate candidates are fetched with { bands: { $in: [...] } }
+        ensureIndex(ContentFingerprint.class, new Index()
+                .on("bands", Sort.Direction.ASC)
+                .named("bands"));
+
+        // TTL — shared rate-limit windows are removed once expiresAt has passed
+        ensureIndex(RateLimitWindow.class, new Index()
+                .on("expiresAt", Sort.Direction.ASC)
+                .expire(0)
+                .named("expiresAt"));
+    }
+
+    private void ensureIndex(Class<?> entityClass, IndexDefinition index) {
+        try {
+            String name = mongoTemplate.indexOps(entityClass).ensureIndex(index);
+            log.debug("Index {} ensured on {}", name, mongoTemplate.getCollectionName(entityClass));
+        } catch (DataAccessException e) {
+            // Performance only — queries still return the right results, so don't keep the app from starting
+            log.error("Failed to create index on {}: {}", mongoTemplate.getCollectionName(entityClass), e.getMessage());
+        }
+    }
+
+    private void ensureRequiredIndex(Class<?> entityClass, IndexDefinition index) {
+        try {
+            String name = mongoTemplate.indexOps(entityClass).ensureIndex(index);
+            log.debug("Index {} ensured on {}", name, mongoTemplate.getCollectionName(entityClass));
+        } catch (DataAccessException e) {
+            String collection = mongoTemplate.getCollectionName(entityClass);
+            log.error("Failed to create required index on {} — its documents are unprotected against duplicates: {}",
+                    collection, e.getMessage());
+            throw new IllegalStateException("Required index " + index.getIndexOptions().get("name")
+                    + " on " + collection + " could not be created", e);
+        }
+    }
+}
@@ -41,18 +41,22 @@ public class SecurityConfig {
 
                         // Public endpoints
                         .requestMatchers(HttpMethod.GET, "/api/blogs/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/blogs/batch").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/blogs/*/reaction").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/blogs/*/reaction").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/blogs/*/comments").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/blogs/*/comments").permitAll()
                         .requestMatchers("/api/blogs/subscribe/**").permitAll()
                         .requestMatchers("/api/blogs/submission/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/feed.xml", "/feed.json", "/sitemap.xml").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/images/**", "/api/images/*").permitAll()
 
                         // Swagger / API docs - public
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 
-                        // Actuator - public
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Actuator - health is public, metrics and info are admin only
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Admin endpoints
                         .requestMatchers("/api/admin/**").authenticated()
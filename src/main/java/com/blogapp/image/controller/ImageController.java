@@ -0,0 +1,54 @@
+package com.blogapp.image.controller;
+
+import com.blogapp.image.dto.response.ImageResponse;
+import com.blogapp.image.service.ImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Images", description = "Image upload and resized variants")
+public class ImageController {
+
+    private final ImageService imageService;
+
+    @PostMapping(value = "/api/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload an image", description = "Stores a JPEG, PNG or GIF and generates narrower JPEG/PNG variants. "
+            + "Use the returned url in featuredImageUrl or <img src> — blog saves add srcset, width/height and lazy loading automatically.")
+    public ResponseEntity<ImageResponse> uploadImage(@RequestPart("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(imageService.upload(file));
+    }
+
+    @GetMapping("/api/images/{id}")
+    @Operation(summary = "Get image details", description = "Dimensions, variants and srcset of an uploaded image")
+    public ResponseEntity<ImageResponse> getImage(@Parameter(description = "Image ID") @PathVariable String id) {
+        return ResponseEntity.ok(imageService.getImage(id));
+    }
+
+    @GetMapping("/images/{id}/{fileName:.+}")
+    @Operation(summary = "Serve an image file", description = "Original or variant bytes. Files never change once written, "
+            + "so they are cacheable for a year.")
+    public ResponseEntity<Resource> getImageFile(
+            @Parameter(description = "Image ID") @PathVariable String id,
+            @Parameter(description = "File name, e.g. original.jpg or 640.jpg") @PathVariable String fileName) {
+
+        Resource file = imageService.loadFile(id, fileName);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .eTag(id + "/" + fileName)
+                .contentType(MediaTypeFactory.getMediaType(file).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(file);
+    }
+}
@@ -0,0 +1,36 @@
+package com.blogapp.image.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "An uploaded image with its resized variants")
+public class ImageResponse {
+
+    @Schema(description = "Image ID (derived from the file content)")
+    private String id;
+
+    @Schema(description = "URL of the original upload — use this as featuredImageUrl or <img src>")
+    private String url;
+
+    private int width;
+
+    private int height;
+
+    private long sizeBytes;
+
+    @Schema(description = "Resized variants, narrowest first")
+    private List<ImageVariantResponse> variants;
+
+    @Schema(description = "Ready-made srcset covering the variants and the original",
+            example = "https://example.com/images/ab12/320.jpg 320w, https://example.com/images/ab12/640.jpg 640w")
+    private String srcset;
+}
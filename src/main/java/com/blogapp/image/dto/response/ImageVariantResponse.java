@@ -0,0 +1,25 @@
+package com.blogapp.image.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One resized copy of an uploaded image")
+public class ImageVariantResponse {
+
+    private String url;
+
+    private String contentType;
+
+    private int width;
+
+    private int height;
+
+    private long sizeBytes;
+}
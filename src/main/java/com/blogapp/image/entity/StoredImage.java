@@ -0,0 +1,61 @@
+package com.blogapp.image.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An uploaded image and its resized variants on disk. The id is derived from the content hash,
+ * so uploading the same file twice returns the existing image and file URLs never change meaning.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "images")
+public class StoredImage {
+
+    @Id
+    private String id;
+
+    private String originalFilename;
+
+    // File name of the untouched upload, e.g. original.jpg
+    private String fileName;
+
+    private String contentType;
+
+    private int width;
+
+    private int height;
+
+    private long sizeBytes;
+
+    // Narrowest first
+    private List<Variant> variants;
+
+    private LocalDateTime createdAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Variant {
+
+        private String fileName;
+
+        private String contentType;
+
+        private int width;
+
+        private int height;
+
+        private long sizeBytes;
+    }
+}
@@ -0,0 +1,9 @@
+package com.blogapp.image.repository;
+
+import com.blogapp.image.entity.StoredImage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoredImageRepository extends MongoRepository<StoredImage, String> {
+}
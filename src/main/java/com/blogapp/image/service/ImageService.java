@@ -0,0 +1,34 @@
+package com.blogapp.image.service;
+
+import com.blogapp.image.dto.response.ImageResponse;
+import org.jsoup.nodes.Element;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface ImageService {
+
+    /**
+     * Store the upload and its resized variants. Re-uploading identical bytes returns the existing image.
+     */
+    ImageResponse upload(MultipartFile file);
+
+    ImageResponse getImage(String id);
+
+    /**
+     * The stored original or variant file, for serving.
+     */
+    Resource loadFile(String id, String fileName);
+
+    /**
+     * Add loading/decoding hints to every image and, for images uploaded here,
+     * width/height plus a srcset over the stored variants. One lookup for all of them.
+     */
+    void rewriteImages(List<Element> images);
+
+    /**
+     * srcset for an uploaded image's URL, or null when the URL is not one of ours.
+     */
+    String srcsetFor(String url);
+}
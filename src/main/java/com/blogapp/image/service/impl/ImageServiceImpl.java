@@ -0,0 +1,392 @@
+package com.blogapp.image.service.impl;
+
+import com.blogapp.common.exception.BadRequestException;
+import com.blogapp.common.exception.RateLimitException;
+import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.image.dto.response.ImageResponse;
+import com.blogapp.image.dto.response.ImageVariantResponse;
+import com.blogapp.image.entity.StoredImage;
+import com.blogapp.image.repository.StoredImageRepository;
+import com.blogapp.image.service.ImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Stores uploads on local disk under {@code blog.images.dir/<id>/} and derives narrower variants with ImageIO.
+ * Decoding and resizing run on the bounded imageExecutor — full-size decodes are memory-heavy, so
+ * at most a few run at once and uploads beyond the queue are turned away rather than piling up.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageServiceImpl implements ImageService {
+
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{32}");
+    private static final Pattern FILE_NAME = Pattern.compile("(original|\\d{2,5})\\.(jpg|png|gif)");
+
+    // Formats read and re-encoded here — ImageIO has no WebP codec in the JDK
+    private static final Map<String, String> EXTENSIONS = Map.of("jpeg", "jpg", "png", "png", "gif", "gif");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg", "png", "image/png", "gif", "image/gif");
+
+    private static final String SIZES = "(max-width: 768px) 100vw, 768px";
+
+    private final StoredImageRepository storedImageRepository;
+    private final ThreadPoolTaskExecutor imageExecutor;
+
+    @Value("${blog.images.dir:./data/images}")
+    private Path imagesDir;
+
+    @Value("${blog.images.public-url:http://localhost:8080/images}")
+    private String publicUrl;
+
+    @Value("${blog.images.widths:320,640,1024,1600}")
+    private int[] widths;
+
+    @Value("${blog.images.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    // Decompression-bomb guard — checked from the header before any pixels are decoded
+    @Value("${blog.images.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${blog.images.process-timeout-seconds:60}")
+    private long processTimeoutSeconds;
+
+    @Override
+    public ImageResponse upload(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Image file is required");
+        }
+        byte[] bytes;
+        try {
+            bytes = file.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String id = contentId(bytes);
+        StoredImage existing = storedImageRepository.findById(id).orElse(null);
+        if (existing != null) {
+            return toResponse(existing);
+        }
+
+        CompletableFuture<StoredImage> processing;
+        try {
+            processing = CompletableFuture.supplyAsync(() -> process(id, bytes, file.getOriginalFilename()), imageExecutor);
+        } catch (TaskRejectedException e) {
+            throw new RateLimitException("Image processing is busy. Please try again shortly.");
+        }
+
+        StoredImage image;
+        try {
+            image = processing.get(processTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Image processing failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Image processing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing image", e);
+        }
+
+        StoredImage saved = storedImageRepository.save(image);
+        log.info("Image stored: {} ({}x{}, {} variant(s))", id, image.getWidth(), image.getHeight(),
+                image.getVariants().size());
+        return toResponse(saved);
+    }
+
+    @Override
+    public ImageResponse getImage(String id) {
+        return storedImageRepository.findById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "id", id));
+    }
+
+    @Override
+    public Resource loadFile(String id, String fileName) {
+        // Both parts are validated, so the path can never leave the image directory
+        if (!ID.matcher(id).matches() || !FILE_NAME.matcher(fileName).matches()) {
+            throw new ResourceNotFoundException("Image", "file", id + "/" + fileName);
+        }
+        Path path = imagesDir.resolve(id).resolve(fileName);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Image", "file", id + "/" + fileName);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void rewriteImages(List<Element> images) {
+        Map<String, List<Element>> byId = new HashMap<>();
+        for (Element img : images) {
+            img.attr("loading", "lazy");
+            img.attr("decoding", "async");
+            String id = imageId(img.attr("src"));
+            if (id != null) {
+                byId.computeIfAbsent(id, key -> new ArrayList<>()).add(img);
+            }
+        }
+        if (byId.isEmpty()) {
+            return;
+        }
+
+        for (StoredImage image : storedImageRepository.findAllById(byId.keySet())) {
+            String srcset = srcset(image);
+            for (Element img : byId.get(image.getId())) {
+                // Dimensions reserve layout space; an author's explicit size wins
+                if (!img.hasAttr("width") && !img.hasAttr("height")) {
+                    img.attr("width", String.valueOf(image.getWidth()));
+                    img.attr("height", String.valueOf(image.getHeight()));
+                }
+                if (!image.getVariants().isEmpty()) {
+                    img.attr("srcset", srcset);
+                    img.attr("sizes", SIZES);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String srcsetFor(String url) {
+        String id = imageId(url);
+        if (id == null) {
+            return null;
+        }
+        return storedImageRepository.findById(id)
+                .filter(image -> !image.getVariants().isEmpty())
+                .map(this::srcset)
+                .orElse(null);
+    }
+
+    private StoredImage process(String id, byte[] bytes, String originalFilename) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new BadRequestException("Unsupported image format — upload a JPEG, PNG or GIF");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                String extension = EXTENSIONS.get(reader.getFormatName().toLowerCase());
+                if (extension == null) {
+                    throw new BadRequestException("Unsupported image format — upload a JPEG, PNG or GIF");
+                }
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new BadRequestException("Image is too large: " + width + "x" + height);
+                }
+
+                Path dir = imagesDir.resolve(id);
+                Files.createDirectories(dir);
+                String fileName = "original." + extension;
+                writeFile(dir.resolve(fileName), bytes);
+
+                // Animated GIFs would lose their frames — they are served as uploaded
+                List<StoredImage.Variant> variants = extension.equals("gif")
+                        ? List.of()
+                        : writeVariants(dir, reader.read(0));
+
+                return StoredImage.builder()
+                        .id(id)
+                        .originalFilename(originalFilename)
+                        .fileName(fileName)
+                        .contentType(CONTENT_TYPES.get(extension))
+                        .width(width)
+                        .height(height)
+                        .sizeBytes(bytes.length)
+                        .variants(variants)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read image: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Widest first, each scaled from the previous one — cheaper than always starting from the original.
+     */
+    private List<StoredImage.Variant> writeVariants(Path dir, BufferedImage source) throws IOException {
+        boolean alpha = source.getColorModel().hasAlpha();
+        String extension = alpha ? "png" : "jpg";
+
+        int[] targets = Arrays.stream(widths)
+                .filter(width -> width < source.getWidth())
+                .boxed()
+                .sorted((a, b) -> b - a)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        List<StoredImage.Variant> variants = new ArrayList<>(targets.length);
+        BufferedImage current = source;
+        for (int width : targets) {
+            int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+            current = scale(current, width, height, alpha);
+
+            byte[] encoded = alpha ? encodePng(current) : encodeJpeg(current);
+            String fileName = width + "." + extension;
+            writeFile(dir.resolve(fileName), encoded);
+            variants.add(0, StoredImage.Variant.builder()
+                    .fileName(fileName)
+                    .contentType(CONTENT_TYPES.get(extension))
+                    .width(width)
+                    .height(height)
+                    .sizeBytes(encoded.length)
+                    .build());
+        }
+        return variants;
+    }
+
+    // Halve with bilinear filtering until close, then one final step — keeps downscales sharp without aliasing
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private String srcset(StoredImage image) {
+        List<String> candidates = image.getVariants().stream()
+                .map(variant -> fileUrl(image.getId(), variant.getFileName()) + " " + variant.getWidth() + "w")
+                .collect(Collectors.toCollection(ArrayList::new));
+        candidates.add(fileUrl(image.getId(), image.getFileName()) + " " + image.getWidth() + "w");
+        return String.join(", ", candidates);
+    }
+
+    private ImageResponse toResponse(StoredImage image) {
+        return ImageResponse.builder()
+                .id(image.getId())
+                .url(fileUrl(image.getId(), image.getFileName()))
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .sizeBytes(image.getSizeBytes())
+                .variants(image.getVariants().stream()
+                        .map(variant -> ImageVariantResponse.builder()
+                                .url(fileUrl(image.getId(), variant.getFileName()))
+                                .contentType(variant.getContentType())
+                                .width(variant.getWidth())
+                                .height(variant.getHeight())
+                                .sizeBytes(variant.getSizeBytes())
+                                .build())
+                        .collect(Collectors.toList()))
+                .srcset(image.getVariants().isEmpty() ? null : srcset(image))
+                .build();
+    }
+
+    private String fileUrl(String id, String fileName) {
+        return publicUrl + "/" + id + "/" + fileName;
+    }
+
+    // Id of an image served from here, or null for anything else
+    private String imageId(String url) {
+        if (url == null || !url.startsWith(publicUrl + "/")) {
+            return null;
+        }
+        int start = publicUrl.length() + 1;
+        int end = url.indexOf('/', start);
+        String id = end > 0 ? url.substring(start, end) : null;
+        return id != null && ID.matcher(id).matches() ? id : null;
+    }
+
+    private static String contentId(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeFile(Path target, byte[] body) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, body);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -2,10 +2,16 @@ package com.blogapp.reaction.service;
 
 import com.blogapp.reaction.dto.request.ReactionRequest;
 import com.blogapp.reaction.dto.response.ReactionResponse;
+import com.blogapp.reaction.enums.ReactionType;
 
 public interface ReactionService {
 
     ReactionResponse toggleReaction(String blogId, ReactionRequest request, String ipAddress);
 
     ReactionResponse getReactionStatus(String blogId, String visitorKey);
+
+    /**
+     * The visitor's current reaction to the blog, or null — does not load the blog.
+     */
+    ReactionType getVisitorReaction(String blogId, String visitorKey);
 }
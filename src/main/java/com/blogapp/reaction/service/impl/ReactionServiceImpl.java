@@ -1,9 +1,12 @@
 package com.blogapp.reaction.service.impl;
 
+import com.blogapp.blog.cache.BlogDetailCache;
+import com.blogapp.blog.cache.BlogVersionTracker;
 import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogEngagementEvent;
 import com.blogapp.blog.repository.BlogPostRepository;
-import com.blogapp.common.exception.RateLimitException;
 import com.blogapp.common.exception.ResourceNotFoundException;
+import com.blogapp.common.ratelimit.RateLimiterRegistry;
 import com.blogapp.reaction.dto.request.ReactionRequest;
 import com.blogapp.reaction.dto.response.ReactionResponse;
 import com.blogapp.reaction.entity.BlogReaction;
@@ -13,12 +16,11 @@ import com.blogapp.reaction.repository.ReactionRepository;
 import com.blogapp.reaction.service.ReactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Optional;
 
@@ -30,28 +32,29 @@ public class ReactionServiceImpl implements ReactionService {
     private final ReactionRepository reactionRepository;
     private final BlogPostRepository blogPostRepository;
     private final ReactionMapper reactionMapper;
-
-    @Value("${blog.rate-limit.reactions-per-minute:10}")
-    private int reactionsPerMinute;
+    private final BlogVersionTracker blogVersionTracker;
+    private final BlogDetailCache blogDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     @Override
     public ReactionResponse toggleReaction(String blogId, ReactionRequest request, String ipAddress) {
-        // Verify blog exists
-        BlogPost blog = blogPostRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
+        // Verify blog exists — an _id index lookup, the document itself is not loaded
+        if (!blogPostRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog", "id", blogId);
+        }
 
         String visitorKey = request.getVisitorKey();
 
-        // Rate limit check
-        long recentReactions = reactionRepository.countByVisitorKeyAndCreatedAtAfter(
-                visitorKey, LocalDateTime.now().minusMinutes(1));
-        if (recentReactions >= reactionsPerMinute) {
-            throw new RateLimitException("Too many reactions. Please wait before trying again.");
-        }
+        // Rate limit check — in memory, per visitor (requests without a key share one)
+        rateLimiterRegistry.reactions().acquire(String.valueOf(visitorKey),
+                "Too many reactions. Please wait before trying again.");
 
         Optional<BlogReaction> existingReaction = reactionRepository.findByBlogIdAndVisitorKey(blogId, visitorKey);
         String action;
         ReactionType currentReaction;
+        long likesDelta;
+        long dislikesDelta;
 
         if (existingReaction.isPresent()) {
             BlogReaction reaction = existingReaction.get();
@@ -61,12 +64,8 @@ public class ReactionServiceImpl implements ReactionService {
                 action = "REMOVED";
                 currentReaction = null;
 
-                // Update blog counters
-                if (request.getReactionType() == ReactionType.LIKE) {
-                    blog.setLikesCount(Math.max(0, blog.getLikesCount() - 1));
-                } else {
-                    blog.setDislikesCount(Math.max(0, blog.getDislikesCount() - 1));
-                }
+                likesDelta = request.getReactionType() == ReactionType.LIKE ? -1 : 0;
+                dislikesDelta = request.getReactionType() == ReactionType.LIKE ? 0 : -1;
             } else {
                 // Different reaction → switch
                 ReactionType oldType = reaction.getReactionType();
@@ -75,14 +74,9 @@ public class ReactionServiceImpl implements ReactionService {
                 action = "SWITCHED";
                 currentReaction = request.getReactionType();
 
-                // Update blog counters — decrement old, increment new
-                if (oldType == ReactionType.LIKE) {
-                    blog.setLikesCount(Math.max(0, blog.getLikesCount() - 1));
-                    blog.setDislikesCount(blog.getDislikesCount() + 1);
-                } else {
-                    blog.setDislikesCount(Math.max(0, blog.getDislikesCount() - 1));
-                    blog.setLikesCount(blog.getLikesCount() + 1);
-                }
+                // Decrement old, increment new
+                likesDelta = oldType == ReactionType.LIKE ? -1 : 1;
+                dislikesDelta = -likesDelta;
             }
         } else {
             // New reaction
@@ -97,15 +91,22 @@ public class ReactionServiceImpl implements ReactionService {
             action = "ADDED";
             currentReaction = request.getReactionType();
 
-            // Update blog counters
-            if (request.getReactionType() == ReactionType.LIKE) {
-                blog.setLikesCount(blog.getLikesCount() + 1);
-            } else {
-                blog.setDislikesCount(blog.getDislikesCount() + 1);
-            }
+            likesDelta = request.getReactionType() == ReactionType.LIKE ? 1 : 0;
+            dislikesDelta = request.getReactionType() == ReactionType.LIKE ? 0 : 1;
         }
 
-        blogPostRepository.save(blog);
+        // Server-side $inc — concurrent reactions can't overwrite each other, and the new counts come back with it
+        BlogPost blog = blogPostRepository.adjustEngagementCounts(blogId, likesDelta, dislikesDelta, 0);
+        if (blog == null) {
+            throw new ResourceNotFoundException("Blog", "id", blogId); // deleted in the meantime
+        }
+        // Keep the cached body and move only its counters — the ETag follows them, and the encoded
+        // payload is re-encoded from the patched detail on its next request
+        blogDetailCache.updateCounts(blog);
+        blogVersionTracker.listingChanged();
+        if (likesDelta != 0) {
+            eventPublisher.publishEvent(new BlogEngagementEvent(blogId, BlogEngagementEvent.Signal.LIKE, likesDelta));
+        }
 
         return reactionMapper.toResponse(blogId, blog.getLikesCount(), blog.getDislikesCount(),
                 currentReaction, action);
@@ -113,17 +114,21 @@ public class ReactionServiceImpl implements ReactionService {
 
     @Override
     public ReactionResponse getReactionStatus(String blogId, String visitorKey) {
-        BlogPost blog = blogPostRepository.findById(blogId)
+        BlogPost blog = blogPostRepository.findEngagementById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId));
 
-        ReactionType userReaction = null;
-        if (visitorKey != null) {
-            Optional<BlogReaction> reaction = reactionRepository.findByBlogIdAndVisitorKey(blogId, visitorKey);
-            userReaction = reaction.map(BlogReaction::getReactionType).orElse(null);
-        }
-
         return reactionMapper.toResponse(blogId, blog.getLikesCount(), blog.getDislikesCount(),
-                userReaction, null);
+                getVisitorReaction(blogId, visitorKey), null);
+    }
+
+    @Override
+    public ReactionType getVisitorReaction(String blogId, String visitorKey) {
+        if (visitorKey == null) {
+            return null;
+        }
+        return reactionRepository.findByBlogIdAndVisitorKey(blogId, visitorKey)
+                .map(BlogReaction::getReactionType)
+                .orElse(null);
     }
 
     private String hashIp(String ip) {
@@ -0,0 +1,161 @@
+package com.blogapp.blog.cache;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.CollectionVersion;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.event.CollectionVersionEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlogVersionTrackerTest {
+
+    // blog_versions as every instance sees it
+    private final Map<String, Long> store = new ConcurrentHashMap<>();
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private volatile boolean storeDown;
+
+    private BlogVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(CollectionVersion.class)))
+                .thenAnswer(invocation -> {
+                    if (storeDown) {
+                        throw new DataAccessResourceFailureException("down");
+                    }
+                    Query query = invocation.getArgument(0);
+                    Update update = invocation.getArgument(1);
+                    long delta = ((Number) update.getUpdateObject().get("$inc", Document.class).get("version")).longValue();
+                    store.merge(query.getQueryObject().getString("id"), delta, Long::sum);
+                    return null;
+                });
+        when(mongoTemplate.findAll(CollectionVersion.class)).thenAnswer(invocation -> store.entrySet().stream()
+                .map(entry -> new CollectionVersion(entry.getKey(), entry.getValue()))
+                .toList());
+        tracker = new BlogVersionTracker(mongoTemplate, eventPublisher);
+    }
+
+    @Test
+    void firstSyncLoadsSharedVersionsAndNotifiesListeners() {
+        store.put("listing", 12L);
+        assertThat(tracker.getListingEtag()).startsWith("\"l-0-");
+
+        tracker.sync();
+
+        assertThat(tracker.getListingEtag()).isEqualTo("\"l-12\"");
+        assertThat(tracker.getArchiveEtag()).isEqualTo("\"a-0\"");
+        CollectionVersionEvent event = publishedEvent();
+        assertThat(event.isListingChanged()).isTrue();
+        assertThat(event.isArchiveChanged()).isTrue();
+        assertThat(event.isContentChanged()).isTrue();
+    }
+
+    @Test
+    void localChangesMoveTheTagAtOnceAndAreSharedOnSync() {
+        tracker.sync();
+        clearInvocations(eventPublisher);
+
+        tracker.listingChanged();
+        tracker.listingChanged();
+        String unshared = tracker.getListingEtag();
+        assertThat(unshared).startsWith("\"l-0-").endsWith("-2\"");
+
+        tracker.sync();
+
+        assertThat(tracker.getListingEtag()).isEqualTo("\"l-2\"");
+        assertThat(store).containsEntry("listing", 2L);
+        // Only our own push — nothing for listeners to reload
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void picksUpChangesFromOtherInstances() {
+        tracker.sync();
+        clearInvocations(eventPublisher);
+        BlogVersionTracker other = new BlogVersionTracker(mongoTemplate, eventPublisher);
+        other.sync();
+        clearInvocations(eventPublisher);
+
+        tracker.listingChanged();
+        other.publishedSetChanged();
+        // Same shared version, different unpushed changes — the tags must differ
+        assertThat(tracker.getListingEtag()).isNotEqualTo(other.getListingEtag());
+        other.sync();
+        clearInvocations(eventPublisher);
+
+        tracker.sync();
+
+        assertThat(tracker.getListingEtag()).isEqualTo("\"l-2\"");
+        assertThat(tracker.getArchiveEtag()).isEqualTo("\"a-1\"");
+        CollectionVersionEvent event = publishedEvent();
+        assertThat(event.isListingChanged()).isTrue();
+        assertThat(event.isArchiveChanged()).isTrue();
+        assertThat(event.isContentChanged()).isFalse();
+    }
+
+    @Test
+    void keepsChangesForTheNextSyncWhenTheStoreIsDown() {
+        tracker.sync();
+        tracker.archiveChanged();
+        storeDown = true;
+
+        tracker.sync();
+        tracker.sync();
+
+        assertThat(tracker.getArchiveEtag()).startsWith("\"a-0-").endsWith("-1\"");
+        assertThat(store).doesNotContainKey("archive");
+
+        storeDown = false;
+        tracker.sync();
+
+        assertThat(store).containsEntry("archive", 1L);
+        assertThat(tracker.getArchiveEtag()).isEqualTo("\"a-1\"");
+    }
+
+    @Test
+    void mapsLifecycleEventsToTheCollectionsTheyAffect() {
+        tracker.sync();
+
+        tracker.onBlogLifecycle(new BlogLifecycleEvent(BlogLifecycleEvent.Type.PUBLISHED,
+                blog(BlogStatus.PUBLISHED), BlogStatus.PENDING));
+        tracker.onBlogLifecycle(new BlogLifecycleEvent(BlogLifecycleEvent.Type.UPDATED,
+                blog(BlogStatus.PUBLISHED), BlogStatus.PUBLISHED));
+        // Edits to drafts are invisible to every public collection
+        tracker.onBlogLifecycle(new BlogLifecycleEvent(BlogLifecycleEvent.Type.UPDATED,
+                blog(BlogStatus.PENDING), BlogStatus.PENDING));
+        tracker.sync();
+
+        assertThat(store).containsEntry("listing", 2L).containsEntry("archive", 1L).containsEntry("content", 2L);
+    }
+
+    private CollectionVersionEvent publishedEvent() {
+        ArgumentCaptor<CollectionVersionEvent> events = ArgumentCaptor.forClass(CollectionVersionEvent.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        return events.getValue();
+    }
+
+    private static BlogPost blog(BlogStatus status) {
+        return BlogPost.builder().id("b1").status(status).build();
+    }
+}
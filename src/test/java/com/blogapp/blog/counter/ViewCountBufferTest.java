@@ -0,0 +1,128 @@
+package com.blogapp.blog.counter;
+
+import com.blogapp.blog.cache.BlogVersionTracker;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.event.BlogEngagementEvent;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BlogVersionTracker blogVersionTracker = mock(BlogVersionTracker.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    // blogId → total $inc written
+    private final Map<String, Long> written = new ConcurrentHashMap<>();
+    private final List<String> batch = new ArrayList<>();
+
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlogPost.class)).thenReturn(bulkOps);
+        when(bulkOps.updateOne(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            Update update = invocation.getArgument(1);
+            String blogId = query.getQueryObject().getString("id");
+            long delta = ((Number) update.getUpdateObject().get("$inc", Document.class).get("viewsCount")).longValue();
+            written.merge(blogId, delta, Long::sum);
+            batch.add(blogId);
+            return bulkOps;
+        });
+        buffer = new ViewCountBuffer(mongoTemplate, blogVersionTracker, eventPublisher);
+    }
+
+    @Test
+    void flushesAccumulatedViewsOncePerBlog() {
+        for (int i = 0; i < 5; i++) {
+            buffer.increment("a");
+        }
+        buffer.increment("b");
+        buffer.increment(null);
+
+        assertThat(buffer.pendingFor("a")).isEqualTo(5);
+        assertThat(buffer.flush()).isEqualTo(2);
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of("a", 5L, "b", 1L));
+        assertThat(buffer.pendingFor("a")).isZero();
+        verify(blogVersionTracker).listingChanged();
+        verify(eventPublisher, times(2)).publishEvent(any(BlogEngagementEvent.class));
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    void neverLosesViewsRecordedDuringFlushes() throws InterruptedException {
+        int threads = 4;
+        int viewsPerThread = 50_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.increment(i % 2 == 0 ? "hot" : "warm");
+                }
+                done.countDown();
+            }).start();
+        }
+
+        boolean finished = false;
+        while (!finished) {
+            finished = done.getCount() == 0;
+            buffer.flush();
+        }
+        // Views that raced the last flush went to fresh counters
+        buffer.flush();
+
+        assertThat(written.get("hot") + written.get("warm")).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void rebuffersOnlyTheUpdatesThatFailed() {
+        buffer.increment("a");
+        buffer.increment("b");
+        buffer.increment("b");
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BlogPost.class);
+        when(bulkOps.execute()).thenAnswer(invocation -> {
+            int failed = batch.indexOf("b");
+            throw new BulkOperationException("write failed", new MongoBulkWriteException(
+                    BulkWriteResult.unacknowledged(),
+                    List.of(new BulkWriteError(11000, "failed", new BsonDocument(), failed)),
+                    null, new ServerAddress(), Set.of()));
+        });
+
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        assertThat(buffer.pendingFor("a")).isZero();
+        assertThat(buffer.pendingFor("b")).isEqualTo(2);
+        ArgumentCaptor<BlogEngagementEvent> events = ArgumentCaptor.forClass(BlogEngagementEvent.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue().getBlogId()).isEqualTo("a");
+    }
+}
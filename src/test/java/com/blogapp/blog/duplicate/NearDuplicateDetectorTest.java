@@ -0,0 +1,102 @@
+package com.blogapp.blog.duplicate;
+
+import com.blogapp.blog.dto.response.NearDuplicateResponse;
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.ContentFingerprint;
+import com.blogapp.blog.repository.ContentFingerprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NearDuplicateDetectorTest {
+
+    private static final long HASH = 0x0123456789ABCDEFL;
+
+    private final ContentFingerprintRepository repository = mock(ContentFingerprintRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    // Every stored fingerprint — findByBandsIn is answered from it like the multikey index would
+    private final List<ContentFingerprint> stored = new ArrayList<>();
+
+    private NearDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new NearDuplicateDetector(repository, mongoTemplate);
+        ReflectionTestUtils.setField(detector, "maxDistance", 6);
+        ReflectionTestUtils.setField(detector, "maxCandidates", 1000);
+
+        when(repository.findHashesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return stored.stream().filter(f -> ids.contains(f.getId())).toList();
+        });
+        when(repository.findByBandsIn(anyCollection(), any(Limit.class))).thenAnswer(invocation -> {
+            Collection<Integer> bands = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return stored.stream()
+                    .filter(f -> f.getBands().stream().anyMatch(bands::contains))
+                    .limit(limit.max())
+                    .toList();
+        });
+        when(mongoTemplate.find(any(Query.class), eq(BlogPost.class))).thenAnswer(invocation -> stored.stream()
+                .map(f -> BlogPost.builder().id(f.getId()).title("Blog " + f.getId()).build())
+                .toList());
+    }
+
+    @Test
+    void findsBlogsWithinTheDistanceClosestFirst() {
+        store("original", HASH);
+        store("two-bits", HASH ^ 0b11L << 20);
+        store("one-bit", HASH ^ 1L << 63);
+        store("six-bits", HASH ^ 0b111111L << 40);
+        store("seven-bits", HASH ^ 0b1111111L << 8);
+        store("unrelated", ~HASH);
+
+        Map<String, List<NearDuplicateResponse>> found = detector.findNearDuplicates(Set.of("original"));
+
+        assertThat(found.get("original")).extracting(NearDuplicateResponse::getId)
+                .containsExactly("one-bit", "two-bits", "six-bits");
+        assertThat(found.get("original")).extracting(NearDuplicateResponse::getDistance).containsExactly(1, 2, 6);
+    }
+
+    @Test
+    void omitsBlogsWithoutAFingerprintOrMatch() {
+        store("lonely", HASH);
+
+        assertThat(detector.findNearDuplicates(Set.of("lonely", "unfingerprinted"))).isEmpty();
+        assertThat(detector.findNearDuplicates(Set.of())).isEmpty();
+    }
+
+    @Test
+    void capsTheCandidatesPerBlog() {
+        ReflectionTestUtils.setField(detector, "maxCandidates", 2);
+        store("original", HASH);
+        for (int i = 0; i < 5; i++) {
+            store("copy-" + i, HASH);
+        }
+
+        Map<String, List<NearDuplicateResponse>> found = detector.findNearDuplicates(Set.of("original"));
+
+        // The first two candidates are original itself and copy-0
+        assertThat(found.get("original")).extracting(NearDuplicateResponse::getId).containsExactly("copy-0");
+    }
+
+    private void store(String id, long hash) {
+        stored.add(ContentFingerprint.builder().id(id).simhash(hash).bands(SimHash.bands(hash)).build());
+    }
+}
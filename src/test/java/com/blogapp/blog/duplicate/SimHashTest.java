@@ -0,0 +1,94 @@
+package com.blogapp.blog.duplicate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    void bandsAlwaysShareAKeyWithinMaxDistance() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 10_000; trial++) {
+            long hash = random.nextLong();
+            long flipped = flip(hash, 1 + random.nextInt(SimHash.MAX_DISTANCE), random);
+
+            assertThat(sharesBand(hash, flipped))
+                    .as("%016x vs %016x", hash, flipped)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void bandsRarelyMatchDistantHashes() {
+        Random random = new Random(13);
+        int shared = 0;
+        for (int trial = 0; trial < 10_000; trial++) {
+            if (sharesBand(random.nextLong(), random.nextLong())) {
+                shared++;
+            }
+        }
+        // 28 keys of 16 bits — about 28 / 65536 per pair
+        assertThat(shared).isLessThan(50);
+    }
+
+    @Test
+    void bandKeysAreDistinctPerPair() {
+        // All-zero blocks everywhere — only the pair number tells the keys apart
+        assertThat(new HashSet<>(SimHash.bands(0L))).hasSize(28);
+    }
+
+    @Test
+    void nearDuplicateTextsAreCloseAndUnrelatedTextsAreNot() {
+        String article = article(new Random(17), 600);
+        String lightlyEdited = article.replaceFirst("force", "push") + " Thanks for reading.";
+
+        SimHash original = SimHash.of(article);
+
+        assertThat(SimHash.distance(original.hash, SimHash.of(article.toUpperCase()).hash)).isZero();
+        assertThat(SimHash.distance(original.hash, SimHash.of(lightlyEdited).hash))
+                .isLessThanOrEqualTo(SimHash.MAX_DISTANCE);
+        assertThat(SimHash.distance(original.hash, SimHash.of(article(new Random(19), 600)).hash))
+                .isGreaterThan(SimHash.MAX_DISTANCE);
+    }
+
+    @Test
+    void countsWordPairs() {
+        assertThat(SimHash.of("one two, three!").shingles).isEqualTo(2);
+        assertThat(SimHash.of("single").shingles).isZero();
+        assertThat(SimHash.of(null).shingles).isZero();
+    }
+
+    // A blog-length text drawn from a small physics vocabulary
+    private static String article(Random random, int words) {
+        String[] vocabulary = { "force", "mass", "energy", "motion", "velocity", "acceleration", "the", "a", "of",
+                "is", "and", "body", "law", "gravity", "friction", "work", "power", "momentum", "wave", "light" };
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(i % 12 == 11 ? ". " : " ");
+        }
+        return text.toString();
+    }
+
+    private static boolean sharesBand(long a, long b) {
+        Set<Integer> bands = new HashSet<>(SimHash.bands(a));
+        List<Integer> other = SimHash.bands(b);
+        return other.stream().anyMatch(bands::contains);
+    }
+
+    private static long flip(long hash, int bits, Random random) {
+        Set<Integer> positions = new HashSet<>();
+        while (positions.size() < bits) {
+            positions.add(random.nextInt(64));
+        }
+        for (int bit : positions) {
+            hash ^= 1L << bit;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,148 @@
+package com.blogapp.blog.index;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.entity.TrendingScore;
+import com.blogapp.blog.enums.BlogStatus;
+import com.blogapp.blog.event.BlogEngagementEvent;
+import com.blogapp.blog.event.BlogEngagementEvent.Signal;
+import com.blogapp.blog.event.BlogLifecycleEvent;
+import com.blogapp.blog.repository.TrendingScoreRepository;
+import com.blogapp.blog.search.SearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingIndexTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final TrendingScoreRepository trendingScoreRepository = mock(TrendingScoreRepository.class);
+    private final BulkOperations bulkOps = mock(BulkOperations.class);
+
+    private TrendingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TrendingScore.class)).thenReturn(bulkOps);
+        index = new TrendingIndex(mongoTemplate, trendingScoreRepository);
+        ReflectionTestUtils.setField(index, "halfLifeHours", 24d);
+    }
+
+    @Test
+    void ranksPublishedBlogsByEngagement() {
+        publish("a", "b", "c");
+        index.onEngagement(new BlogEngagementEvent("a", Signal.VIEW, 3));
+        index.onEngagement(new BlogEngagementEvent("b", Signal.LIKE, 1));
+        // Not published — ignored
+        index.onEngagement(new BlogEngagementEvent("draft", Signal.LIKE, 10));
+
+        SearchHits hits = index.rank(null, 0, 10);
+
+        assertThat(hits.getBlogIds()).containsExactly("b", "a", "c");
+        assertThat(hits.getTotal()).isEqualTo(3);
+        assertThat(index.rank(null, 1, 1).getBlogIds()).containsExactly("a");
+    }
+
+    @Test
+    void ranksOnlyTheBlogsInScope() {
+        publish("a", "b", "c", "d");
+        index.onEngagement(new BlogEngagementEvent("a", Signal.COMMENT, 1));
+        index.onEngagement(new BlogEngagementEvent("b", Signal.LIKE, 1));
+        index.onEngagement(new BlogEngagementEvent("c", Signal.VIEW, 1));
+
+        // Narrow scope (sorted positions) and a scope as large as the ranking (walk) agree
+        assertThat(index.rank(Set.of("c", "a", "unknown"), 0, 10).getBlogIds()).containsExactly("a", "c");
+        assertThat(index.rank(Set.of("a", "b", "c", "d", "e"), 1, 2).getBlogIds()).containsExactly("b", "c");
+        assertThat(index.rank(Set.of("a", "b", "c", "d", "e"), 1, 2).getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void withdrawsNoMoreThanWasAdded() {
+        publish("a", "b");
+        index.onEngagement(new BlogEngagementEvent("a", Signal.LIKE, 1));
+        index.onEngagement(new BlogEngagementEvent("b", Signal.VIEW, 1));
+        // One like added, five withdrawn — a drops to zero, not below
+        index.onEngagement(new BlogEngagementEvent("a", Signal.LIKE, -5));
+        index.onEngagement(new BlogEngagementEvent("a", Signal.VIEW, 1));
+
+        assertThat(index.rank(null, 0, 10).getBlogIds()).containsExactly("b", "a");
+    }
+
+    @Test
+    void dropsUnpublishedBlogsAndTheirScore() {
+        publish("a", "b");
+        BlogPost a = blog("a", BlogStatus.PENDING);
+
+        index.onBlogLifecycle(new BlogLifecycleEvent(BlogLifecycleEvent.Type.UPDATED, a, BlogStatus.PUBLISHED));
+
+        assertThat(index.rank(null, 0, 10).getBlogIds()).containsExactly("b");
+        verify(trendingScoreRepository).deleteById("a");
+    }
+
+    @Test
+    void keepsDeltasForTheNextWriteWhenPersistingFails() {
+        publish("a", "b");
+        index.onEngagement(new BlogEngagementEvent("a", Signal.LIKE, 1));
+        when(bulkOps.execute()).thenThrow(new DataAccessResourceFailureException("down")).thenReturn(null);
+
+        index.persist();
+        index.persist();
+        index.persist();
+
+        // Seeds for a and b plus a's like — upserted by the failed write and again by the retry, then nothing left
+        verify(bulkOps, times(4)).upsert(any(Query.class), any(AggregationUpdate.class));
+        verify(bulkOps, times(2)).execute();
+    }
+
+    @Test
+    void reloadsSharedScoresAndSeedsBlogsWithoutOne() {
+        LocalDateTime now = LocalDateTime.now();
+        BlogPost stored = blog("stored", BlogStatus.PUBLISHED);
+        BlogPost fresh = blog("fresh", BlogStatus.PUBLISHED);
+        fresh.setLikesCount(1);
+        fresh.setPublishedAt(now);
+        when(trendingScoreRepository.findAll()).thenReturn(List.of(
+                new TrendingScore("stored", 50, now),
+                new TrendingScore("unpublished", 80, now)));
+        when(mongoTemplate.stream(any(Query.class), eq(BlogPost.class))).thenReturn(Stream.of(fresh, stored));
+
+        index.load();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.rank(null, 0, 10).getBlogIds()).containsExactly("stored", "fresh");
+        verify(trendingScoreRepository).deleteAllById(Set.of("unpublished"));
+        // Only the seed for fresh is written — stored already has a shared score
+        index.persist();
+        verify(bulkOps, times(1)).upsert(any(Query.class), any(AggregationUpdate.class));
+        verify(trendingScoreRepository, never()).deleteById(any());
+    }
+
+    private void publish(String... ids) {
+        for (String id : ids) {
+            index.onBlogLifecycle(new BlogLifecycleEvent(BlogLifecycleEvent.Type.PUBLISHED,
+                    blog(id, BlogStatus.PUBLISHED), BlogStatus.PENDING));
+        }
+    }
+
+    private static BlogPost blog(String id, BlogStatus status) {
+        return BlogPost.builder().id(id).status(status).build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.blogapp.blog.related;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedModelTest {
+
+    private final RelatedModel model = new RelatedModel();
+
+    @Test
+    void ranksNeighboursByCosineSimilarity() {
+        model.put("kinematics", weights("velocity", "acceleration", "displacement", "motion"));
+        model.put("dynamics", weights("force", "mass", "acceleration", "motion"));
+        model.put("projectiles", weights("velocity", "acceleration", "displacement", "trajectory"));
+        model.put("optics", weights("lens", "refraction", "light"));
+
+        List<RelatedModel.Scored> neighbours = model.neighbours("kinematics", 5);
+
+        assertThat(neighbours).extracting(s -> s.blogId).containsExactly("projectiles", "dynamics");
+        assertThat(neighbours.get(0).score).isGreaterThan(neighbours.get(1).score);
+        assertThat(model.neighbours("kinematics", 1)).extracting(s -> s.blogId).containsExactly("projectiles");
+        assertThat(model.neighbours("unknown", 5)).isEmpty();
+    }
+
+    @Test
+    void replacingABlogDropsItsOldTerms() {
+        model.put("a", weights("waves", "sound"));
+        model.put("b", weights("waves", "frequency"));
+
+        model.put("a", weights("atoms", "nucleus"));
+
+        assertThat(model.neighbours("b", 5)).isEmpty();
+        assertThat(model.vocabularySize()).isEqualTo(4);
+    }
+
+    @Test
+    void recyclesTermIdsOfRemovedBlogs() {
+        model.put("a", weights("alpha", "beta"));
+        model.put("b", weights("gamma"));
+        model.remove("a");
+        assertThat(model.vocabularySize()).isEqualTo(1);
+
+        // Reuses alpha's and beta's ids — must not look related to anything that used them before
+        model.put("c", weights("delta", "epsilon"));
+        model.put("d", weights("delta", "zeta"));
+
+        assertThat(model.vocabularySize()).isEqualTo(4);
+        assertThat(model.neighbours("c", 5)).extracting(s -> s.blogId).containsExactly("d");
+        assertThat(model.neighbours("b", 5)).isEmpty();
+
+        model.clear();
+        assertThat(model.vocabularySize()).isZero();
+        assertThat(model.blogIds()).isEmpty();
+    }
+
+    @Test
+    void bucketsSimilarBlogsTogetherInLargeCatalogs() {
+        Random random = new Random(7);
+        int catalog = RelatedModel.BRUTE_FORCE_LIMIT * 4;
+        for (int i = 0; i < catalog; i++) {
+            Map<String, Float> terms = new HashMap<>();
+            for (int t = 0; t < 12; t++) {
+                terms.put("term" + random.nextInt(5000), 1f + random.nextInt(3));
+            }
+            model.put("blog-" + i, terms);
+        }
+        // Two posts sharing most of their strongest terms
+        Map<String, Float> original = new HashMap<>();
+        for (int t = 0; t < 20; t++) {
+            original.put("shared" + t, 3f);
+        }
+        Map<String, Float> revised = new HashMap<>(original);
+        revised.remove("shared0");
+        revised.put("extra", 3f);
+        model.put("original", original);
+        model.put("revised", revised);
+
+        assertThat(model.candidates("original")).contains("revised").hasSizeLessThan(catalog / 4);
+        assertThat(model.neighbours("original", 3)).extracting(s -> s.blogId).first().isEqualTo("revised");
+    }
+
+    private static Map<String, Float> weights(String... terms) {
+        return RelatedModel.termWeights(List.of(terms), 1f, new HashMap<>());
+    }
+}
@@ -0,0 +1,93 @@
+package com.blogapp.blog.repository;
+
+import com.blogapp.blog.entity.BlogPost;
+import com.blogapp.blog.enums.BlogSort;
+import com.blogapp.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlogCursorTest {
+
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000);
+
+    private final BlogPost last = BlogPost.builder()
+            .id("65f2a1c9e4b0a1b2c3d4e5f6")
+            .publishedAt(PUBLISHED_AT)
+            .likesCount(42)
+            .commentsCount(7)
+            .build();
+
+    @Test
+    void roundTripsKeysetCursors() {
+        assertRoundTrip(BlogCursor.after(last, BlogSort.RECENT), PUBLISHED_AT);
+        assertRoundTrip(BlogCursor.after(last, BlogSort.OLDEST), PUBLISHED_AT);
+        assertRoundTrip(BlogCursor.after(last, BlogSort.POPULAR), 42L);
+        assertRoundTrip(BlogCursor.after(last, BlogSort.MOST_COMMENTED), 7L);
+    }
+
+    @Test
+    void roundTripsAMissingSortValue() {
+        BlogPost unpublished = BlogPost.builder().id("a1").build();
+
+        BlogCursor decoded = BlogCursor.decode(BlogCursor.after(unpublished, BlogSort.RECENT).encode());
+
+        assertThat(decoded.getValue()).isNull();
+        assertThat(decoded.getId()).isEqualTo("a1");
+        assertThat(decoded.isOffset()).isFalse();
+    }
+
+    @Test
+    void roundTripsOffsetCursors() {
+        BlogCursor relevance = BlogCursor.decode(BlogCursor.atRelevanceOffset(40).encode());
+        assertThat(relevance.isRelevance()).isTrue();
+        assertThat(relevance.isOffset()).isTrue();
+        assertThat(relevance.getOffset()).isEqualTo(40);
+
+        BlogCursor trending = BlogCursor.decode(BlogCursor.atOffset(BlogSort.TRENDING, 20).encode());
+        assertThat(trending.getSort()).isEqualTo(BlogSort.TRENDING);
+        assertThat(trending.isRelevance()).isFalse();
+        assertThat(trending.isOffset()).isTrue();
+        assertThat(trending.getOffset()).isEqualTo(20);
+    }
+
+    @Test
+    void encodesAsUrlSafeTokens() {
+        assertThat(BlogCursor.after(last, BlogSort.RECENT).encode()).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("not base64!");
+        assertInvalid(token("UNKNOWN|1|x"));
+        assertInvalid(token("RECENT|yesterday|x"));
+        assertInvalid(token("POPULAR|many|x"));
+        assertInvalid(token("RELEVANCE|-5|"));
+        assertInvalid(token("TRENDING|ten|"));
+        assertInvalid(token("RECENT"));
+    }
+
+    private static void assertRoundTrip(BlogCursor cursor, Object value) {
+        BlogCursor decoded = BlogCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSort()).isEqualTo(cursor.getSort());
+        assertThat(decoded.getValue()).isEqualTo(value);
+        assertThat(decoded.getId()).isEqualTo("65f2a1c9e4b0a1b2c3d4e5f6");
+        assertThat(decoded.isOffset()).isFalse();
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> BlogCursor.decode(token))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package com.blogapp.blog.revision;
+
+import com.blogapp.blog.entity.BlogRevision.Hunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenDiffTest {
+
+    private static final int MAX_EDITS = 2000;
+
+    @Test
+    void roundTripsInsert() {
+        assertRoundTrip("<p>Newton's laws of motion</p>",
+                "<p>Newton's three laws of motion</p>");
+    }
+
+    @Test
+    void roundTripsDelete() {
+        assertRoundTrip("<p>Energy is <strong>always</strong> conserved.</p>",
+                "<p>Energy is conserved.</p>");
+    }
+
+    @Test
+    void roundTripsReplace() {
+        assertRoundTrip("<h2>Intro</h2><p>Velocity is speed.</p><p>End</p>",
+                "<h2>Introduction</h2><p>Velocity is speed with a direction.</p><p>End</p>");
+    }
+
+    @Test
+    void roundTripsFromAndToEmpty() {
+        assertRoundTrip("", "<p>First draft</p>");
+        assertRoundTrip("<p>First draft</p>", "");
+        assertRoundTrip(null, "<p>First draft</p>");
+    }
+
+    @Test
+    void identicalTextHasNoHunks() {
+        String text = "<p>Nothing changed here.</p>";
+
+        List<Hunk> hunks = TokenDiff.diff(text, text, MAX_EDITS);
+
+        assertThat(hunks).isEmpty();
+        assertThat(TokenDiff.apply(text, hunks)).isEqualTo(text);
+    }
+
+    @Test
+    void returnsNullWhenMaxEditsExceeded() {
+        String from = "<p>one two three four five</p>";
+        String to = "<p>six seven eight nine ten</p>";
+
+        assertThat(TokenDiff.diff(from, to, 3)).isNull();
+        assertRoundTrip(from, to);
+    }
+
+    @Test
+    void rejectsHunksAppliedToADifferentBase() {
+        String from = "<p>Energy is always conserved.</p>";
+        List<Hunk> hunks = TokenDiff.diff(from, "<p>Energy is conserved.</p>", MAX_EDITS);
+
+        // Same token count, different words — only the deleted-token hash can tell
+        assertThatThrownBy(() -> TokenDiff.apply("<p>Energy is never conserved.</p>", hunks))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertRoundTrip(String from, String to) {
+        List<Hunk> hunks = TokenDiff.diff(from, to, MAX_EDITS);
+
+        assertThat(hunks).isNotNull();
+        assertThat(TokenDiff.apply(from, hunks)).isEqualTo(to);
+    }
+}
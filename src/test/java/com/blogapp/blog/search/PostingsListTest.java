@@ -0,0 +1,64 @@
+package com.blogapp.blog.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingsListTest {
+
+    @Test
+    void decodesWhatWasAppended() {
+        // Deltas and frequencies spanning one to four varint bytes
+        int[] docIds = { 0, 1, 200, 20_000, 3_000_000 };
+        int[] freqs = { 1, 127, 128, 1, 70_000 };
+        PostingsList list = new PostingsList();
+        for (int i = 0; i < docIds.length; i++) {
+            list.add(docIds[i], freqs[i]);
+        }
+
+        assertThat(list.size()).isEqualTo(docIds.length);
+        assertDecodes(list, docIds, freqs);
+    }
+
+    @Test
+    void rejectsOutOfOrderDocIds() {
+        PostingsList list = new PostingsList();
+        list.add(5, 1);
+
+        assertThatThrownBy(() -> list.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.add(3, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void roundTripsThroughItsSerializedForm() throws IOException {
+        PostingsList list = new PostingsList();
+        list.add(2, 3);
+        list.add(9, 1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            list.writeTo(out);
+        }
+        PostingsList read = PostingsList.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertDecodes(read, new int[] { 2, 9 }, new int[] { 3, 1 });
+        // Appends continue after the last doc id read back
+        read.add(10, 4);
+        assertDecodes(read, new int[] { 2, 9, 10 }, new int[] { 3, 1, 4 });
+    }
+
+    private static void assertDecodes(PostingsList list, int[] docIds, int[] freqs) {
+        int[] decodedIds = new int[list.size()];
+        int[] decodedFreqs = new int[list.size()];
+        list.decode(decodedIds, decodedFreqs);
+        assertThat(decodedIds).containsExactly(docIds);
+        assertThat(decodedFreqs).containsExactly(freqs);
+    }
+}
@@ -0,0 +1,101 @@
+package com.blogapp.blog.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    void ranksTitleMatchesAboveContentMatches() {
+        index.index("content", 1, 2026, 1, "Kinematics basics", "", "", "Momentum is mass times velocity.");
+        index.index("title", 2, 2026, 1, "Momentum explained", "", "", "Mass times velocity.");
+        index.index("other", 3, 2026, 1, "Waves", "", "", "Amplitude and frequency.");
+
+        SearchHits hits = search("momentum");
+
+        assertThat(hits.getBlogIds()).containsExactly("title", "content");
+        assertThat(hits.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void filtersByArchiveMonthAndScope() {
+        index.index("jan", 1, 2026, 1, "Optics", "", "", "");
+        index.index("feb", 2, 2026, 2, "Optics", "", "", "");
+        index.index("last-year", 3, 2025, 1, "Optics", "", "", "");
+
+        assertThat(index.search("optics", 2026, null, null, 0, 10).getBlogIds()).containsExactlyInAnyOrder("jan", "feb");
+        assertThat(index.search("optics", 2026, 2, null, 0, 10).getBlogIds()).containsExactly("feb");
+        assertThat(index.search("optics", null, null, Set.of("jan", "last-year"), 0, 10).getBlogIds())
+                .containsExactlyInAnyOrder("jan", "last-year");
+    }
+
+    @Test
+    void pagesThroughMatchesWithTheFullTotal() {
+        for (int i = 0; i < 5; i++) {
+            index.index("b" + i, i, null, null, "Gravity", "", "", "");
+        }
+
+        SearchHits page = index.search("gravity", null, null, null, 2, 2);
+
+        assertThat(page.getBlogIds()).hasSize(2);
+        assertThat(page.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void reindexingReplacesThePreviousVersion() {
+        index.index("a", 1, null, null, "Electric circuits", "", "", "");
+        index.index("a", 2, null, null, "Magnetic fields", "", "", "");
+
+        assertThat(search("circuits").getBlogIds()).isEmpty();
+        assertThat(search("magnetic").getBlogIds()).containsExactly("a");
+        assertThat(index.versionOf("a")).isEqualTo(2);
+        assertThat(index.liveDocs()).isEqualTo(1);
+
+        assertThat(index.remove("a")).isTrue();
+        assertThat(index.remove("a")).isFalse();
+        assertThat(index.versionOf("a")).isNull();
+    }
+
+    @Test
+    void compactionKeepsResults() {
+        index.index("a", 1, null, null, "Thermodynamics", "heat", "", "");
+        index.index("b", 1, null, null, "Entropy", "heat", "", "");
+        index.index("a", 2, null, null, "Thermodynamics revisited", "heat", "", "");
+        index.remove("b");
+
+        SearchIndex compacted = index.compact();
+
+        assertThat(compacted.search("heat", null, null, null, 0, 10).getBlogIds()).containsExactly("a");
+        assertThat(compacted.search("entropy", null, null, null, 0, 10).getBlogIds()).isEmpty();
+        assertThat(compacted.versionOf("a")).isEqualTo(2);
+        assertThat(compacted.needsCompaction()).isFalse();
+    }
+
+    @Test
+    void roundTripsThroughASegmentFile(@TempDir Path dir) throws IOException {
+        index.index("a", 7, 2026, 3, "Relativity", "physics", "Time dilation", "Clocks run slow.");
+        index.index("b", 8, null, null, "Quantum", "physics", "", "");
+        index.remove("b");
+        Path file = dir.resolve("search").resolve("segment.bin");
+
+        SearchIndex.writeSegment(file, index.toSegment());
+        SearchIndex read = SearchIndex.readFrom(file);
+
+        assertThat(read.blogIds()).containsExactly("a");
+        assertThat(read.versionOf("a")).isEqualTo(7);
+        assertThat(read.search("dilation", 2026, 3, null, 0, 10).getBlogIds()).containsExactly("a");
+        assertThat(read.search("physics", null, null, null, 0, 10).getBlogIds()).containsExactly("a");
+    }
+
+    private SearchHits search(String query) {
+        return index.search(query, null, null, null, 0, 10);
+    }
+}
@@ -0,0 +1,109 @@
+package com.blogapp.blog.search;
+
+import com.blogapp.blog.search.SuggestTrie.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    private final SuggestTrie trie = new SuggestTrie();
+
+    @Test
+    void returnsHeaviestEntriesUnderThePrefix() {
+        Entry momentum = new Entry("Momentum", "momentum", 5);
+        Entry motion = new Entry("Motion", "motion", 9);
+        Entry mass = new Entry("Mass", "mass", 7);
+        trie.insert("momentum", momentum);
+        trie.insert("motion", motion);
+        trie.insert("mass", mass);
+
+        assertThat(trie.top("mo", 10)).containsExactly(motion, momentum);
+        assertThat(trie.top("m", 2)).containsExactly(motion, mass);
+        assertThat(trie.top("", 10)).containsExactly(motion, mass, momentum);
+        assertThat(trie.top("x", 10)).isEmpty();
+        assertThat(trie.top("momentums", 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresARepeatedInsert() {
+        Entry optics = new Entry("Optics", "optics", 1);
+        trie.insert("optics", optics);
+        trie.insert("optics", optics);
+
+        assertThat(trie.top("op", 10)).containsExactly(optics);
+    }
+
+    @Test
+    void removalPromotesEntriesBeyondTheTopK() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i <= SuggestTrie.TOP_K; i++) {
+            Entry entry = new Entry("Wave " + i, "wave-" + i, i);
+            entries.add(entry);
+            trie.insert("wave " + i, entry);
+        }
+        Entry lightest = entries.get(0);
+        assertThat(trie.top("wave", 20)).hasSize(SuggestTrie.TOP_K).doesNotContain(lightest);
+
+        trie.remove("wave " + SuggestTrie.TOP_K, entries.get(SuggestTrie.TOP_K));
+
+        assertThat(trie.top("wave", 20)).hasSize(SuggestTrie.TOP_K).contains(lightest);
+        assertThat(trie.top("wave " + SuggestTrie.TOP_K, 20)).isEmpty();
+    }
+
+    @Test
+    void removingOneKeyKeepsTheEntryUnderItsOthers() {
+        // A title is indexed under each of its words
+        Entry entry = new Entry("Newton's laws", "newtons-laws", 3);
+        trie.insert("newton's laws", entry);
+        trie.insert("laws", entry);
+
+        trie.remove("laws", entry);
+
+        assertThat(trie.top("la", 10)).isEmpty();
+        assertThat(trie.top("new", 10)).containsExactly(entry);
+    }
+
+    @Test
+    void matchesABruteForceScanAcrossRandomEdits() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        List<Entry> live = new ArrayList<>();
+        for (int step = 0; step < 2000; step++) {
+            if (live.isEmpty() || random.nextInt(3) > 0) {
+                String key = randomKey(random);
+                Entry entry = new Entry(key, key, random.nextInt(100));
+                trie.insert(key, entry);
+                keys.add(key);
+                live.add(entry);
+            } else {
+                int i = random.nextInt(live.size());
+                trie.remove(keys.remove(i), live.remove(i));
+            }
+
+            String prefix = randomKey(random).substring(0, random.nextInt(3));
+            List<Entry> expected = live.stream()
+                    .filter(e -> e.text.startsWith(prefix))
+                    .sorted(Comparator.comparingDouble((Entry e) -> e.weight).reversed().thenComparing(e -> e.text))
+                    .limit(SuggestTrie.TOP_K)
+                    .toList();
+            assertThat(trie.top(prefix, SuggestTrie.TOP_K)).extracting(e -> e.weight)
+                    .as("prefix '%s' at step %d", prefix, step)
+                    .containsExactlyElementsOf(expected.stream().map(e -> e.weight).toList());
+        }
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.blogapp.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    // Long enough that no test crosses a window boundary in practice
+    private final SlidingWindowRateLimiter limiter =
+            new SlidingWindowRateLimiter("test", 3, Duration.ofHours(1), 100, new SimpleMeterRegistry());
+
+    @Test
+    void rejectsOnceTheLimitIsReachedPerKey() {
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    void onlyMarksHitsSharedOnceWritten() {
+        long windowStart = limiter.windowStart(System.currentTimeMillis());
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        // A failed write marks nothing — the same hits go out again
+        assertThat(limiter.unshared(windowStart)).containsExactlyEntriesOf(Map.of("a", 2));
+        assertThat(limiter.unshared(windowStart)).containsExactlyEntriesOf(Map.of("a", 2));
+
+        Map<String, Integer> written = limiter.unshared(windowStart);
+        limiter.tryAcquire("a");
+        limiter.markShared(windowStart, written);
+
+        // The hit counted during the write is still pending
+        assertThat(limiter.unshared(windowStart)).containsExactlyEntriesOf(Map.of("a", 1));
+    }
+
+    @Test
+    void ignoresWritesForAnotherWindow() {
+        long windowStart = limiter.windowStart(System.currentTimeMillis());
+        limiter.tryAcquire("a");
+
+        limiter.markShared(windowStart - limiter.getWindowMillis(), Map.of("a", 1));
+
+        assertThat(limiter.unshared(windowStart)).containsExactlyEntriesOf(Map.of("a", 1));
+    }
+
+    @Test
+    void countsHitsFromOtherInstancesTowardsTheLimit() {
+        long windowStart = limiter.windowStart(System.currentTimeMillis());
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        limiter.markShared(windowStart, limiter.unshared(windowStart));
+
+        // One hit here, two elsewhere
+        limiter.applySharedTotal("a", windowStart, 3);
+
+        assertThat(limiter.tryAcquire("a")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.blogapp.common.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sanitizing a post the size of the seeded ones in DataInitializer (and a few times larger).
+ * legacyClean is the previous implementation — a fresh Safelist per call plus a pretty-printed Jsoup.clean.
+ *
+ * Run with: mvn test-compile, then
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; org.openjdk.jmh.Main HtmlSanitizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlSanitizerBenchmark {
+
+    // One section in the shape the seeded posts use — indented text-block HTML with code, quotes and figures
+    private static final String SECTION = """
+                                <h2>1. Records — Data Classes Made Simple</h2>
+                                <p>Records eliminate the boilerplate of data-carrying classes. Instead of writing getters, setters, equals, hashCode, and toString — you write <strong>one line</strong>:</p>
+
+                                <figure class="blog-figure">
+                                    <img src="https://images.unsplash.com/photo-1517694712202-14dd9538aa97?w=800" alt="Coding on laptop" class="blog-img" />
+                                </figure>
+
+                                <pre><code>public record BlogPost(String title, String author, LocalDate publishedAt) {
+            public BlogPost {
+                Objects.requireNonNull(title, "Title cannot be null");
+            }
+        }</code></pre>
+
+                                <blockquote>
+                                    <p>"Records are the single most productivity-boosting feature Java has added in the last decade." — Brian Goetz</p>
+                                </blockquote>
+
+                                <ul>
+                                    <li><strong>Immutable</strong> by default</li>
+                                    <li>Works with <a href="https://openjdk.org/jeps/395" target="_blank">pattern matching</a></li>
+                                    <li style="color : #333 ; ">Compact constructors for validation</li>
+                                </ul>
+                                <p onclick="track()">Tracking handlers and <span class="">empty attributes</span> are stripped.</p>
+            """;
+
+    @Param({ "8", "32" })
+    private int sections;
+
+    private String html;
+
+    @Setup
+    public void setUp() {
+        html = "<h1>The Complete Guide to Modern Java Development</h1>\n" + SECTION.repeat(sections);
+    }
+
+    @Benchmark
+    public String legacyClean() {
+        Safelist safelist = Safelist.relaxed()
+                .addTags("h1", "h2", "h3", "h4", "h5", "h6", "pre", "code", "blockquote", "hr")
+                .addAttributes("a", "href", "title", "target", "rel")
+                .addAttributes("img", "src", "alt", "title", "width", "height")
+                .addAttributes("code", "class")
+                .addAttributes("pre", "class")
+                .addAttributes(":all", "style")
+                .addProtocols("a", "href", "http", "https", "mailto")
+                .addProtocols("img", "src", "http", "https");
+        return Jsoup.clean(html, safelist);
+    }
+
+    @Benchmark
+    public HtmlSanitizer.SanitizedHtml clean() {
+        return HtmlSanitizer.clean(html);
+    }
+}
@@ -0,0 +1,69 @@
+package com.blogapp.common.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlSanitizerTest {
+
+    @Test
+    void addsNoopenerToLinksOpeningANewTab() {
+        String html = HtmlSanitizer.sanitize("<p><a href=\"https://example.com\" target=\"_blank\">Docs</a></p>");
+
+        Element link = parse(html).selectFirst("a");
+        assertThat(link).isNotNull();
+        assertThat(link.attr("target")).isEqualTo("_blank");
+        assertThat(link.attr("rel")).isEqualTo("noopener noreferrer");
+    }
+
+    @Test
+    void preservesWhitespaceInsidePre() {
+        String code = "int x = 1;\n\n    if (x  > 0) {\n        x++;\n    }";
+
+        String html = HtmlSanitizer.sanitize("<p>Example:</p>\n\n   <pre><code>" + code + "</code></pre>");
+
+        assertThat(parse(html).selectFirst("pre code").wholeText()).isEqualTo(code);
+    }
+
+    @Test
+    void collapsesWhitespaceOutsidePre() {
+        String html = HtmlSanitizer.sanitize("<p>  Forces   and\n\n motion  </p>\n\n<p>Next</p>");
+
+        assertThat(html).isEqualTo("<p>Forces and motion</p><p>Next</p>");
+    }
+
+    @Test
+    void stripsScriptsAndEventHandlers() {
+        String html = HtmlSanitizer.sanitize("<p onclick=\"steal()\">Hello</p><script>alert('x')</script>"
+                + "<a href=\"javascript:alert(1)\">link</a>");
+
+        assertThat(html).doesNotContain("<script", "alert", "onclick", "javascript:");
+        assertThat(parse(html).selectFirst("p").text()).isEqualTo("Hello");
+    }
+
+    @Test
+    void assignsStableDeduplicatedHeadingIds() {
+        String input = "<h2>Intro</h2><p>a</p><h2>Intro</h2><h3>Newton's Laws</h3><h2>物理</h2>";
+
+        String first = HtmlSanitizer.sanitize(input);
+        Document document = parse(first);
+
+        assertThat(document.select("h2, h3").eachAttr("id"))
+                .containsExactly("intro", "intro-1", "newtons-laws", "section");
+        // Same input, same anchors — links into a table of contents keep working
+        assertThat(HtmlSanitizer.sanitize(input)).isEqualTo(first);
+    }
+
+    @Test
+    void returnsEmptyForBlankInput() {
+        assertThat(HtmlSanitizer.sanitize(null)).isEmpty();
+        assertThat(HtmlSanitizer.sanitize("   ")).isEmpty();
+    }
+
+    private static Document parse(String html) {
+        return Jsoup.parseBodyFragment(html);
+    }
+}
@@ -0,0 +1,67 @@
+package com.blogapp.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Slugging typical blog titles. legacySlug is the previous implementation —
+ * NFD normalisation followed by four regex passes.
+ *
+ * Run with: mvn test-compile, then
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; org.openjdk.jmh.Main SlugUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlugUtilBenchmark {
+
+    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
+    private static final Pattern MULTIPLE_DASHES = Pattern.compile("-{2,}");
+
+    @Param({
+            "The Complete Guide to Modern Java Development",
+            "Crème brûlée & café: déjà vu in Zürich",
+            "Как подготовиться к экзамену по физике"
+    })
+    private String title;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = title;
+    }
+
+    @Benchmark
+    public String legacySlug() {
+        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
+        String slug = WHITESPACE.matcher(normalized).replaceAll("-");
+        slug = NON_LATIN.matcher(slug).replaceAll("");
+        slug = MULTIPLE_DASHES.matcher(slug).replaceAll("-");
+        slug = slug.toLowerCase(Locale.ENGLISH);
+        return slug.replaceAll("^-|-$", "");
+    }
+
+    @Benchmark
+    public String generateSlug() {
+        return SlugUtil.generateSlug(input);
+    }
+}
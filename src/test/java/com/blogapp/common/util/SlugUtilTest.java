@@ -0,0 +1,62 @@
+package com.blogapp.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlugUtilTest {
+
+    @Test
+    void slugsLatinTitles() {
+        assertThat(SlugUtil.generateSlug("How to Prepare for IGCSE Physics!"))
+                .isEqualTo("how-to-prepare-for-igcse-physics");
+        assertThat(SlugUtil.generateSlug("  Crème brûlée — à la carte  ")).isEqualTo("creme-brulee-a-la-carte");
+    }
+
+    @Test
+    void transliteratesCyrillic() {
+        assertThat(SlugUtil.generateSlug("Привет, мир")).isEqualTo("privet-mir");
+    }
+
+    @Test
+    void transliteratesGreek() {
+        assertThat(SlugUtil.generateSlug("Καλημέρα κόσμε")).isEqualTo("kalimera-kosme");
+    }
+
+    @Test
+    void dropsApostrophes() {
+        assertThat(SlugUtil.generateSlug("Don't panic")).isEqualTo("dont-panic");
+        assertThat(SlugUtil.generateSlug("Newton’s laws")).isEqualTo("newtons-laws");
+    }
+
+    @Test
+    void yieldsEmptyWhenNothingTransliterates() {
+        // Callers fall back to FALLBACK_SLUG
+        assertThat(SlugUtil.generateSlug("物理学")).isEmpty();
+        assertThat(SlugUtil.generateSlug("   ")).isEmpty();
+        assertThat(SlugUtil.generateSlug(null)).isEmpty();
+        assertThat(SlugUtil.FALLBACK_SLUG).isEqualTo("post");
+    }
+
+    @Test
+    void onlyEmitsLowerCaseAsciiLettersDigitsAndDashes() {
+        List<String> titles = List.of("Привет, мир", "Καλημέρα κόσμε", "Don't panic", "C++ & Java: 10 tips",
+                "Ærøskøbing straße", "__init__ -- 2026 !!", "Mixed 物理 Physics", "emoji 🚀 launch");
+
+        for (String title : titles) {
+            String slug = SlugUtil.generateSlug(title);
+            assertThat(slug).as(title).matches("^[a-z0-9-]+$").doesNotStartWith("-").doesNotEndWith("-")
+                    .doesNotContain("--");
+        }
+    }
+
+    @Test
+    void nextFreeSlugAppendsTheFirstUnusedSuffix() {
+        assertThat(SlugUtil.nextFreeSlug("intro", Set.of())).isEqualTo("intro");
+        assertThat(SlugUtil.nextFreeSlug("intro", Set.of("intro", "intro-1"))).isEqualTo("intro-2");
+        assertThat(SlugUtil.nextFreeSlug("intro", List.of("intro", "intro-2"))).isEqualTo("intro-1");
+    }
+}